@@ -0,0 +1,57 @@
+package benchmark;
+
+import common.ListNode;
+import impl.ArrayRingManipulator;
+import impl.ListManipulator;
+import interfaces.IReduceOperator;
+
+/**
+ * Benchmark comparing pointer-chasing traversals of a ListNode ring with the same traversals over the array-backed
+ * ArrayRingManipulator. Run with e.g. java -Xmx4g benchmark.ArrayRingBenchmark 5000000
+ */
+public class ArrayRingBenchmark {
+
+  private static final int DEFAULT_SIZE = 5_000_000;
+  private static final int ROUNDS = 5;
+
+  private static final IReduceOperator ADD = (element1, element2) -> (Integer) element1 + (Integer) element2;
+
+  public static void main(String[] args) {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+    ListManipulator listManipulator = new ListManipulator();
+    ArrayRingManipulator arrayManipulator = new ArrayRingManipulator(size);
+
+    ListNode listHead = BenchmarkLists.of(size, i -> i % 1000);
+    int arrayHead = arrayManipulator.fromListNodes(listHead);
+    System.out.println("ListNode ring vs array ring on " + size + " nodes (best of " + ROUNDS + ")");
+
+    final ListNode list = listHead;
+    final int array = arrayHead;
+    compare("size", () -> listManipulator.size(list), () -> arrayManipulator.size(array));
+    compare("contains", () -> listManipulator.contains(list, -1), () -> arrayManipulator.contains(array, -1));
+    compare("count", () -> listManipulator.count(list, 7), () -> arrayManipulator.count(array, 7));
+    compare("reduce", () -> listManipulator.reduce(list, ADD, 0), () -> arrayManipulator.reduce(array, ADD, 0));
+    compare("reverse", () -> listManipulator.reverse(list), () -> arrayManipulator.reverse(array));
+  }
+
+  /**
+   * Prints the best time of each implementation of an operation.
+   *
+   * @param name      the name of the operation
+   * @param listNodes the operation on the ListNode ring
+   * @param arrayRing the operation on the array ring
+   */
+  private static void compare(String name, Runnable listNodes, Runnable arrayRing) {
+    System.out.printf("%-10s ListNode %6d ms   array %6d ms%n", name, best(listNodes), best(arrayRing));
+  }
+
+  private static long best(Runnable operation) {
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < ROUNDS; i++) {
+      long start = System.nanoTime();
+      operation.run();
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best / 1_000_000;
+  }
+}
@@ -0,0 +1,49 @@
+package benchmark;
+
+import common.ListNode;
+
+import java.util.function.IntFunction;
+
+/**
+ * List fixtures shared by the benchmarks.
+ */
+public final class BenchmarkLists {
+
+  private BenchmarkLists() {
+  }
+
+  /**
+   * Builds a list of the integers from 0 to size - 1.
+   *
+   * @param size the number of nodes in the list
+   * @return the head of the list, or null if size is zero
+   */
+  public static ListNode range(int size) {
+    return of(size, i -> i);
+  }
+
+  /**
+   * Builds a list whose element at each index is given by a function of the index.
+   *
+   * @param size    the number of nodes in the list
+   * @param element the function giving the element at each index
+   * @return the head of the list, or null if size is zero
+   */
+  public static ListNode of(int size, IntFunction<Object> element) {
+    ListNode head = null;
+    for (int i = 0; i < size; i++) {
+      ListNode node = new ListNode(element.apply(i));
+      if (head == null) {
+        node.next = node;
+        node.previous = node;
+        head = node;
+      } else {
+        node.previous = head.previous;
+        node.next = head;
+        head.previous.next = node;
+        head.previous = node;
+      }
+    }
+    return head;
+  }
+}
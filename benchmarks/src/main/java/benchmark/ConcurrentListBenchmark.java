@@ -0,0 +1,160 @@
+package benchmark;
+
+import common.ConcurrentListNode;
+import common.InvalidIndexException;
+import common.ListNode;
+import impl.ConcurrentListManipulator;
+import impl.ListManipulator;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contention benchmark comparing the hand-over-hand locking ConcurrentListManipulator with ListManipulator guarded
+ * by a single global lock. Each thread mixes lookups with inserting an element at a random position and deleting it
+ * again, for a fixed time, at increasing thread counts.
+ * Run with e.g. java -cp benchmarks.jar benchmark.ConcurrentListBenchmark 1000 80
+ */
+public class ConcurrentListBenchmark {
+
+  private static final int DEFAULT_SIZE = 1000;
+  private static final int DEFAULT_READ_PERCENT = 80;
+  private static final long DURATION_MILLIS = 2_000;
+
+  /**
+   * The operations being benchmarked, implemented by each list under test.
+   */
+  private interface SharedList {
+    boolean contains(Object element);
+
+    void insert(Object element, int n) throws InvalidIndexException;
+
+    void delete(Object element);
+  }
+
+  /**
+   * Returns a list of the integers from 0 to size - 1 using fine-grained locking.
+   *
+   * @param size the number of elements
+   * @return the list
+   */
+  private static SharedList fineGrained(int size) {
+    ConcurrentListManipulator manipulator = new ConcurrentListManipulator();
+    ConcurrentListNode list = manipulator.newList();
+    for (int i = 0; i < size; i++) {
+      manipulator.append(list, i);
+    }
+    return new SharedList() {
+      public boolean contains(Object element) {
+        return manipulator.contains(list, element);
+      }
+
+      public void insert(Object element, int n) throws InvalidIndexException {
+        manipulator.insert(list, element, n);
+      }
+
+      public void delete(Object element) {
+        manipulator.delete(list, element);
+      }
+    };
+  }
+
+  /**
+   * Returns a list of the integers from 0 to size - 1 using a single lock around every call.
+   *
+   * @param size the number of elements
+   * @return the list
+   */
+  private static SharedList globalLock(int size) {
+    ListManipulator manipulator = new ListManipulator();
+    ReentrantLock lock = new ReentrantLock();
+    ListNode[] head = {BenchmarkLists.range(size)};
+    return new SharedList() {
+      public boolean contains(Object element) {
+        lock.lock();
+        try {
+          return manipulator.contains(head[0], element);
+        } finally {
+          lock.unlock();
+        }
+      }
+
+      public void insert(Object element, int n) throws InvalidIndexException {
+        lock.lock();
+        try {
+          head[0] = manipulator.insert(head[0], new ListNode(element), n);
+        } finally {
+          lock.unlock();
+        }
+      }
+
+      public void delete(Object element) {
+        lock.lock();
+        try {
+          head[0] = manipulator.delete(head[0], element);
+        } finally {
+          lock.unlock();
+        }
+      }
+    };
+  }
+
+  /**
+   * Runs the mixed workload on a list from the given number of threads and returns the operations completed per
+   * second.
+   *
+   * @param list        the list under test
+   * @param threads     the number of threads
+   * @param size        the number of elements in the list
+   * @param readPercent the percentage of operations that are lookups
+   * @return the throughput in operations per second
+   * @throws InterruptedException if interrupted while waiting for the threads to finish
+   */
+  private static long run(SharedList list, int threads, int size, int readPercent) throws InterruptedException {
+    LongAdder operations = new LongAdder();
+    CountDownLatch finished = new CountDownLatch(threads);
+    long end = System.currentTimeMillis() + DURATION_MILLIS;
+    for (int t = 0; t < threads; t++) {
+      String prefix = "thread-" + t + "-";
+      new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long count = 0;
+        try {
+          while (System.currentTimeMillis() < end) {
+            if (random.nextInt(100) < readPercent) {
+              list.contains(random.nextInt(size));
+              count++;
+            } else {
+              String element = prefix + count;
+              list.insert(element, random.nextInt(size));
+              list.delete(element);
+              count += 2;
+            }
+          }
+        } catch (InvalidIndexException e) {
+          throw new IllegalStateException(e);
+        } finally {
+          operations.add(count);
+          finished.countDown();
+        }
+      }).start();
+    }
+    finished.await();
+    return operations.sum() * 1000 / DURATION_MILLIS;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+    int readPercent = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_READ_PERCENT;
+    int cores = Runtime.getRuntime().availableProcessors();
+    System.out.println("Hand-over-hand vs global lock, " + size + " elements, " + readPercent + "% lookups");
+
+    for (int threads = 1; threads <= 2 * cores; threads *= 2) {
+      long fine = run(fineGrained(size), threads, size, readPercent);
+      long global = run(globalLock(size), threads, size, readPercent);
+      System.out.printf("%3d threads  hand-over-hand %10d ops/s   global lock %10d ops/s%n", threads, fine, global);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package benchmark;
+
+import common.ListHandle;
+import common.ListNode;
+import impl.ListHandleManipulator;
+
+/**
+ * Benchmark comparing membership lookups, counts and deletions on a list handle that walks the list with the same
+ * operations on a handle whose elements are indexed. Every element occurs once, so an indexed deletion finds its
+ * node without walking. Run with e.g. java -Xmx4g benchmark.ElementIndexBenchmark 1000000
+ */
+public class ElementIndexBenchmark {
+
+  private static final int DEFAULT_SIZE = 1_000_000;
+  private static final int LOOKUPS = 100;
+  private static final int ROUNDS = 5;
+
+  public static void main(String[] args) {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+    ListHandleManipulator manipulator = new ListHandleManipulator();
+    ListHandle walked = new ListHandle();
+    ListHandle indexed = new ListHandle(null, false, true);
+    for (int i = size - 1; i >= 0; i--) {
+      manipulator.addHead(walked, new ListNode(i));
+      manipulator.addHead(indexed, new ListNode(i));
+    }
+    System.out.println("Walked vs indexed handle on " + size + " nodes, " + LOOKUPS + " operations (best of "
+        + ROUNDS + ")");
+
+    compare("contains", () -> {
+      for (int i = 0; i < LOOKUPS; i++) manipulator.contains(walked, size - 1 - i);
+    }, () -> {
+      for (int i = 0; i < LOOKUPS; i++) manipulator.contains(indexed, size - 1 - i);
+    });
+    compare("count", () -> {
+      for (int i = 0; i < LOOKUPS; i++) manipulator.count(walked, i);
+    }, () -> {
+      for (int i = 0; i < LOOKUPS; i++) manipulator.count(indexed, i);
+    });
+    compare("delete", () -> deleteAndRestore(manipulator, walked), () -> deleteAndRestore(manipulator, indexed));
+  }
+
+  /**
+   * Deletes the tail element and adds it back at the front, repeatedly, so that every round sees a list
+   * of the same size.
+   *
+   * @param manipulator the manipulator to use
+   * @param list        the list to change
+   */
+  private static void deleteAndRestore(ListHandleManipulator manipulator, ListHandle list) {
+    for (int i = 0; i < LOOKUPS; i++) {
+      Object element = list.tail.element;
+      manipulator.delete(list, element);
+      manipulator.addHead(list, new ListNode(element));
+    }
+  }
+
+  /**
+   * Prints the best time of each version of an operation.
+   *
+   * @param name    the name of the operation
+   * @param walked  the operation on the walked handle
+   * @param indexed the operation on the indexed handle
+   */
+  private static void compare(String name, Runnable walked, Runnable indexed) {
+    System.out.printf("%-10s walked %8.3f ms   indexed %8.3f ms%n", name, best(walked), best(indexed));
+  }
+
+  private static double best(Runnable operation) {
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < ROUNDS; i++) {
+      long start = System.nanoTime();
+      operation.run();
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best / 1_000_000.0;
+  }
+}
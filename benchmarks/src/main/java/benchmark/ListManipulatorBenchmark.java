@@ -0,0 +1,267 @@
+package benchmark;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListNode;
+import impl.ListManipulator;
+import impl.RecursiveListManipulator;
+import interfaces.IListManipulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of every IListManipulator method on both ListManipulator and RecursiveListManipulator, over lists
+ * of different sizes, element types and proportions of duplicate elements. Methods that modify the list are paired
+ * with the opposite change (e.g. insert then delete, split then append, filter then relinking the dropped nodes),
+ * and map applies a transformation that undoes itself when applied again, so every invocation sees a list of the
+ * same shape. Run main to report throughput and average time together with allocation rates from the gc profiler;
+ * any JMH command line options are passed through.
+ * The default grid of 36 parameter sets, 17 benchmarks and 2 modes takes about three hours. Narrow it with
+ * options such as -p implementation=iterative or a benchmark name pattern. Lists of 10M nodes need several
+ * gigabytes of heap and many more hours, so they are left out of the defaults; add them with -p size=10000000.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ListManipulatorBenchmark {
+
+  // Never equal to any element of the list, so searching for it walks the whole list
+  private static final Object MISSING = new Object();
+
+  @Param({"iterative", "recursive"})
+  public String implementation;
+
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  @Param({"INTEGER", "STRING", "CUSTOM"})
+  public ElementType elementType;
+
+  // The proportion of elements that repeat an earlier element
+  @Param({"0.0", "0.5"})
+  public double duplicateRatio;
+
+  private IListManipulator manipulator;
+  private ListNode head;
+  private ListNode copy;
+  private ListNode delimiter;
+  // The nodes of head in list order, so that filter can put back the nodes it drops
+  private ListNode[] nodes;
+
+  /**
+   * The types of element stored in the benchmarked lists.
+   */
+  public enum ElementType {
+    INTEGER, STRING, CUSTOM
+  }
+
+  /**
+   * An element type with its own equals and hashCode, standing in for application objects.
+   */
+  public static final class Point {
+    private final int x;
+    private final int y;
+
+    public Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Point)) return false;
+      Point point = (Point) other;
+      return x == point.x && y == point.y;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * x + y;
+    }
+
+    @Override
+    public String toString() {
+      return "(" + x + "," + y + ")";
+    }
+  }
+
+  @Setup
+  public void setup() {
+    manipulator = implementation.equals("recursive") ? new RecursiveListManipulator() : new ListManipulator();
+    head = BenchmarkLists.of(size, this::element);
+    copy = BenchmarkLists.of(size, this::element);
+    nodes = new ListNode[size];
+    ListNode currentNode = head;
+    for (int i = 0; i < size; i++) {
+      nodes[i] = currentNode;
+      currentNode = currentNode.next;
+    }
+    // The node after the middle is used as the split delimiter, as the middle node may equal the head
+    delimiter = new ListNode(element(Math.min(size - 1, size / 2 + 1)));
+  }
+
+  // Returns the element at position i; with duplicates, positions wrap round onto the distinct elements
+  private Object element(int i) {
+    int distinct = Math.max(1, (int) Math.round(size * (1 - duplicateRatio)));
+    int key = i % distinct;
+    switch (elementType) {
+      case STRING:
+        return "element-" + key;
+      case CUSTOM:
+        return new Point(key, -key);
+      default:
+        return key;
+    }
+  }
+
+  // A transformation that gives a new element of the same type, and gives back the original when applied
+  // to its own result
+  private static Object flip(Object element) {
+    if (element instanceof Integer) return ~(Integer) element;
+    if (element instanceof String) return new StringBuilder((String) element).reverse().toString();
+    Point point = (Point) element;
+    return new Point(point.y, point.x);
+  }
+
+  // Keeps about half of the distinct elements of any type
+  private static boolean keep(Object element) {
+    return (Objects.hashCode(element) & 1) == 0;
+  }
+
+  private static ListNode unlinkedNode() {
+    return new ListNode(MISSING);
+  }
+
+  @Benchmark
+  public int size() {
+    return manipulator.size(head);
+  }
+
+  @Benchmark
+  public boolean isEmpty() {
+    return manipulator.isEmpty(head);
+  }
+
+  @Benchmark
+  public boolean contains() {
+    return manipulator.contains(head, MISSING);
+  }
+
+  @Benchmark
+  public int count() {
+    return manipulator.count(head, head.element);
+  }
+
+  @Benchmark
+  public String convertToString() {
+    return manipulator.convertToString(head);
+  }
+
+  @Benchmark
+  public Object getFromFront() throws InvalidIndexException {
+    return manipulator.getFromFront(head, size / 2);
+  }
+
+  @Benchmark
+  public Object getFromBack() throws InvalidIndexException {
+    return manipulator.getFromBack(head, size / 2);
+  }
+
+  @Benchmark
+  public boolean equals() {
+    return manipulator.equals(head, copy);
+  }
+
+  @Benchmark
+  public boolean containsDuplicates() {
+    return manipulator.containsDuplicates(head);
+  }
+
+  @Benchmark
+  public ListNode addHeadThenDelete() {
+    head = manipulator.delete(manipulator.addHead(head, unlinkedNode()), MISSING);
+    return head;
+  }
+
+  @Benchmark
+  public ListNode appendThenDelete() {
+    ListNode node = unlinkedNode();
+    node.next = node;
+    node.previous = node;
+    head = manipulator.delete(manipulator.append(head, node), MISSING);
+    return head;
+  }
+
+  @Benchmark
+  public ListNode insertThenDelete() throws InvalidIndexException {
+    head = manipulator.delete(manipulator.insert(head, unlinkedNode(), size / 2), MISSING);
+    return head;
+  }
+
+  @Benchmark
+  public ListNode reverse() {
+    head = manipulator.reverse(head);
+    return head;
+  }
+
+  @Benchmark
+  public ListNode splitThenAppend() throws InvalidListException {
+    ListNode parts = manipulator.split(head, delimiter);
+    if (parts == head) return head;
+    head = manipulator.append((ListNode) parts.element, (ListNode) parts.next.element);
+    return head;
+  }
+
+  // Each invocation flips every element, so the list alternates between two versions of the same size
+  @Benchmark
+  public ListNode map() {
+    return manipulator.map(head, ListManipulatorBenchmark::flip);
+  }
+
+  @Benchmark
+  public Object reduce() {
+    return manipulator.reduce(head, (result, element) -> (Integer) result + Objects.hashCode(element), 0);
+  }
+
+  // Drops about half of the nodes, then relinks every node in its original order, which adds a walk
+  // of the whole list to the filter
+  @Benchmark
+  public ListNode filterThenRelink() {
+    ListNode filtered = manipulator.filter(head, ListManipulatorBenchmark::keep);
+    for (int i = 0; i < size; i++) {
+      nodes[i].next = nodes[(i + 1) % size];
+      nodes[(i + 1) % size].previous = nodes[i];
+    }
+    head = nodes[0];
+    return filtered;
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    new Runner(new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .include(ListManipulatorBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
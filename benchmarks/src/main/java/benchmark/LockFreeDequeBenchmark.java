@@ -0,0 +1,163 @@
+package benchmark;
+
+import common.ListNode;
+import impl.ListManipulator;
+import impl.LockFreeDeque;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Benchmark comparing the LockFreeDeque used as a work queue with a ListNode ring guarded by a mutex, which is how
+ * work queues were shared before. Half the threads produce at alternate ends and half consume from alternate ends,
+ * for a fixed time, at increasing thread counts.
+ * Run with e.g. java -cp benchmarks.jar benchmark.LockFreeDequeBenchmark 32
+ */
+public class LockFreeDequeBenchmark {
+
+  private static final long DURATION_MILLIS = 2_000;
+
+  /**
+   * The work queue operations being benchmarked.
+   */
+  private interface WorkQueue {
+    void addHead(Object element);
+
+    void append(Object element);
+
+    Object pollHead();
+
+    Object pollTail();
+  }
+
+  private static WorkQueue lockFree() {
+    LockFreeDeque deque = new LockFreeDeque();
+    return new WorkQueue() {
+      public void addHead(Object element) {
+        deque.addHead(element);
+      }
+
+      public void append(Object element) {
+        deque.append(element);
+      }
+
+      public Object pollHead() {
+        return deque.pollHead();
+      }
+
+      public Object pollTail() {
+        return deque.pollTail();
+      }
+    };
+  }
+
+  private static WorkQueue mutex() {
+    ListManipulator manipulator = new ListManipulator();
+    ReentrantLock lock = new ReentrantLock();
+    ListNode[] head = {null};
+    return new WorkQueue() {
+      public void addHead(Object element) {
+        ListNode node = new ListNode(element);
+        node.next = node;
+        node.previous = node;
+        lock.lock();
+        try {
+          head[0] = head[0] == null ? node : manipulator.addHead(head[0], node);
+        } finally {
+          lock.unlock();
+        }
+      }
+
+      public void append(Object element) {
+        ListNode node = new ListNode(element);
+        node.next = node;
+        node.previous = node;
+        lock.lock();
+        try {
+          head[0] = manipulator.append(head[0], node);
+        } finally {
+          lock.unlock();
+        }
+      }
+
+      public Object pollHead() {
+        lock.lock();
+        try {
+          return head[0] == null ? null : take(head[0]);
+        } finally {
+          lock.unlock();
+        }
+      }
+
+      public Object pollTail() {
+        lock.lock();
+        try {
+          return head[0] == null ? null : take(head[0].previous);
+        } finally {
+          lock.unlock();
+        }
+      }
+
+      // Unlinks a node, which must be in the list, and returns its element
+      private Object take(ListNode node) {
+        if (node.next == node) {
+          head[0] = null;
+        } else {
+          node.previous.next = node.next;
+          node.next.previous = node.previous;
+          if (node == head[0]) head[0] = node.next;
+        }
+        return node.element;
+      }
+    };
+  }
+
+  /**
+   * Runs producers and consumers on a queue and returns the elements taken per second.
+   *
+   * @param queue   the queue under test
+   * @param threads the total number of threads, half of them producers
+   * @return the throughput in elements taken per second
+   * @throws InterruptedException if interrupted while waiting for the threads to finish
+   */
+  private static long run(WorkQueue queue, int threads) throws InterruptedException {
+    LongAdder taken = new LongAdder();
+    CountDownLatch finished = new CountDownLatch(threads);
+    long end = System.currentTimeMillis() + DURATION_MILLIS;
+    for (int t = 0; t < threads; t++) {
+      boolean producer = t % 2 == 0;
+      boolean atHead = t % 4 < 2;
+      new Thread(() -> {
+        long count = 0;
+        while (System.currentTimeMillis() < end) {
+          if (producer) {
+            if (atHead) {
+              queue.addHead(count);
+            } else {
+              queue.append(count);
+            }
+            count++;
+          } else if ((atHead ? queue.pollHead() : queue.pollTail()) != null) {
+            count++;
+          }
+        }
+        if (!producer) taken.add(count);
+        finished.countDown();
+      }).start();
+    }
+    finished.await();
+    return taken.sum() * 1000 / DURATION_MILLIS;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 2 * Runtime.getRuntime().availableProcessors();
+    System.out.println("Lock-free deque vs mutex-guarded list as a work queue");
+
+    for (int threads = 2; threads <= Math.max(2, maxThreads); threads *= 2) {
+      long lockFree = run(lockFree(), threads);
+      long mutex = run(mutex(), threads);
+      System.out.printf("%3d threads  lock-free %10d taken/s   mutex %10d taken/s%n", threads, lockFree, mutex);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package benchmark;
+
+import common.ListNode;
+import impl.ParallelMapper;
+import interfaces.IMapTransformation;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Benchmark showing how the throughput of ParallelMapper scales with the number of threads, using a CPU-heavy
+ * transformation that parses and normalises each element. Run with e.g. java -Xmx4g benchmark.ParallelMapBenchmark 2000000
+ */
+public class ParallelMapBenchmark {
+
+  private static final int DEFAULT_SIZE = 2_000_000;
+  private static final int ROUNDS = 3;
+
+  // Parses a padded, mixed-case record and formats it back out in a normalised form
+  private static final IMapTransformation NORMALIZE = element -> {
+    String[] fields = ((String) element).trim().toLowerCase(Locale.ROOT).split("-");
+    long value = Long.parseLong(fields[1]);
+    return String.format(Locale.ROOT, "  %s-%08d  ", fields[0].toUpperCase(Locale.ROOT), value);
+  };
+
+  public static void main(String[] args) {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+    int cores = Runtime.getRuntime().availableProcessors();
+    ListNode head = BenchmarkLists.of(size, i -> "  Item-" + i + "  ");
+    System.out.println("Parallel map of " + size + " records on up to " + cores + " cores (best of " + ROUNDS + ")");
+
+    double baseline = 0;
+    // Powers of two up to the number of cores, then the number of cores itself
+    for (int threads = 1; threads <= cores; threads = threads < cores && threads * 2 > cores ? cores : threads * 2) {
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        ParallelMapper mapper = new ParallelMapper(executor, threads, 0);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+          long start = System.nanoTime();
+          mapper.map(head, NORMALIZE);
+          best = Math.min(best, System.nanoTime() - start);
+        }
+        double throughput = size / (best / 1_000_000.0);
+        if (threads == 1) baseline = throughput;
+        System.out.printf("%3d threads %10.0f elements/ms  speedup %.2fx%n", threads, throughput, throughput / baseline);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package benchmark;
+
+import common.InvalidIndexException;
+import common.ListNode;
+import impl.RecursiveListManipulator;
+import interfaces.IListManipulator;
+
+/**
+ * Benchmark showing that the trampolined RecursiveListManipulator handles lists far deeper than the thread stack.
+ * Run with a heap large enough for the list, e.g. java -Xmx4g benchmark.RecursiveDepthBenchmark 10000000
+ */
+public class RecursiveDepthBenchmark {
+
+  private static final int DEFAULT_SIZE = 10_000_000;
+
+  /**
+   * Prints the time taken by a single run of an operation.
+   *
+   * @param name      the name of the operation
+   * @param operation the operation to time
+   */
+  private static void time(String name, Runnable operation) {
+    long start = System.nanoTime();
+    operation.run();
+    System.out.printf("%-16s %8d ms%n", name, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  public static void main(String[] args) {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+    IListManipulator manipulator = new RecursiveListManipulator();
+    ListNode first = BenchmarkLists.range(size);
+    ListNode second = BenchmarkLists.range(size);
+    System.out.println("Recursive manipulator on " + size + " nodes");
+
+    time("size", () -> manipulator.size(first));
+    time("contains", () -> manipulator.contains(first, -1));
+    time("count", () -> manipulator.count(first, size / 2));
+    time("convertToString", () -> manipulator.convertToString(first));
+    time("equals", () -> manipulator.equals(first, second));
+    time("getFromFront", () -> {
+      try {
+        manipulator.getFromFront(first, size - 1);
+      } catch (InvalidIndexException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    time("reverse", () -> manipulator.reverse(first));
+  }
+}
@@ -0,0 +1,71 @@
+package benchmark;
+
+import common.InvalidListException;
+import common.ListNode;
+import impl.ListManipulator;
+import impl.RecursiveListManipulator;
+import interfaces.IListManipulator;
+
+/**
+ * Benchmark comparing split, map, reduce and filter in the trampolined RecursiveListManipulator with the iterative
+ * ListManipulator. Run with e.g. java -Xmx4g benchmark.RecursiveVsIterativeBenchmark 1000000
+ */
+public class RecursiveVsIterativeBenchmark {
+
+  private static final int DEFAULT_SIZE = 1_000_000;
+  private static final int ROUNDS = 5;
+
+  /**
+   * Returns the best time in milliseconds of an operation run on a fresh list each round, not counting the time
+   * taken to build the list.
+   *
+   * @param size      the number of nodes in the list
+   * @param operation the operation to time
+   * @return the best time taken by the operation
+   * @throws InvalidListException if the operation throws it
+   */
+  private static long best(int size, Operation operation) throws InvalidListException {
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < ROUNDS; i++) {
+      ListNode head = BenchmarkLists.range(size);
+      long start = System.nanoTime();
+      operation.run(head);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best / 1_000_000;
+  }
+
+  /**
+   * Prints the best times of an operation on both manipulators.
+   *
+   * @param name      the name of the operation
+   * @param size      the number of nodes in the list
+   * @param operation the operation to time, given the manipulator and the head of the list
+   * @throws InvalidListException if the operation throws it
+   */
+  private static void compare(String name, int size, ManipulatorOperation operation) throws InvalidListException {
+    IListManipulator iterative = new ListManipulator();
+    IListManipulator recursive = new RecursiveListManipulator();
+    System.out.printf("%-8s iterative %6d ms   recursive %6d ms%n", name,
+        best(size, head -> operation.run(iterative, head)), best(size, head -> operation.run(recursive, head)));
+  }
+
+  public static void main(String[] args) throws InvalidListException {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+    ListNode delimiter = new ListNode(size / 2);
+    System.out.println("Iterative vs recursive manipulator on " + size + " nodes (best of " + ROUNDS + ")");
+
+    compare("split", size, (manipulator, head) -> manipulator.split(head, delimiter));
+    compare("map", size, (manipulator, head) -> manipulator.map(head, element -> (Integer) element + 1));
+    compare("reduce", size, (manipulator, head) -> manipulator.reduce(head, (a, b) -> (Integer) a + (Integer) b, 0));
+    compare("filter", size, (manipulator, head) -> manipulator.filter(head, element -> (Integer) element % 2 == 0));
+  }
+
+  private interface Operation {
+    void run(ListNode head) throws InvalidListException;
+  }
+
+  private interface ManipulatorOperation {
+    void run(IListManipulator manipulator, ListNode head) throws InvalidListException;
+  }
+}
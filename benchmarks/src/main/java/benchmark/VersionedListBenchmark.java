@@ -0,0 +1,198 @@
+package benchmark;
+
+import common.InvalidIndexException;
+import common.ListHandle;
+import common.ListNode;
+import impl.ListHandleManipulator;
+import impl.VersionedList;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-mostly benchmark comparing the optimistic reads of VersionedList with ListHandleManipulator guarded by a
+ * read-write lock. Each thread mixes lookups with inserting an element at a random position and deleting it again,
+ * for a fixed time, at increasing thread counts. A single thread reading the list with no synchronisation at all
+ * is run first as the baseline for the cost of a lookup.
+ * Run with e.g. java -cp benchmarks.jar benchmark.VersionedListBenchmark 1000 99
+ */
+public class VersionedListBenchmark {
+
+  private static final int DEFAULT_SIZE = 1000;
+  private static final int DEFAULT_READ_PERCENT = 99;
+  private static final long DURATION_MILLIS = 2_000;
+
+  /**
+   * The operations being benchmarked, implemented by each list under test.
+   */
+  private interface SharedList {
+    boolean contains(Object element);
+
+    void insert(Object element, int n) throws InvalidIndexException;
+
+    void delete(Object element);
+  }
+
+  /**
+   * Returns a handle on a list of the integers from 0 to size - 1.
+   *
+   * @param size the number of elements
+   * @return the handle
+   */
+  private static ListHandle handle(int size) {
+    ListHandleManipulator manipulator = new ListHandleManipulator();
+    ListHandle list = new ListHandle();
+    for (int i = size - 1; i >= 0; i--) {
+      manipulator.addHead(list, new ListNode(i));
+    }
+    return list;
+  }
+
+  /**
+   * Returns a list of the integers from 0 to size - 1 with no synchronisation, which is only safe to read.
+   *
+   * @param size the number of elements
+   * @return the list
+   */
+  private static SharedList unsynchronised(int size) {
+    ListHandleManipulator manipulator = new ListHandleManipulator();
+    ListHandle list = handle(size);
+    return new SharedList() {
+      public boolean contains(Object element) {
+        return manipulator.contains(list, element);
+      }
+
+      public void insert(Object element, int n) {
+        throw new UnsupportedOperationException();
+      }
+
+      public void delete(Object element) {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * Returns a list of the integers from 0 to size - 1 read optimistically.
+   *
+   * @param size the number of elements
+   * @return the list
+   */
+  private static SharedList optimistic(int size) {
+    VersionedList list = new VersionedList(handle(size));
+    return new SharedList() {
+      public boolean contains(Object element) {
+        return list.contains(element);
+      }
+
+      public void insert(Object element, int n) throws InvalidIndexException {
+        list.insert(element, n);
+      }
+
+      public void delete(Object element) {
+        list.delete(element);
+      }
+    };
+  }
+
+  /**
+   * Returns a list of the integers from 0 to size - 1 guarded by a read-write lock.
+   *
+   * @param size the number of elements
+   * @return the list
+   */
+  private static SharedList readWriteLock(int size) {
+    ListHandleManipulator manipulator = new ListHandleManipulator();
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    ListHandle list = handle(size);
+    return new SharedList() {
+      public boolean contains(Object element) {
+        lock.readLock().lock();
+        try {
+          return manipulator.contains(list, element);
+        } finally {
+          lock.readLock().unlock();
+        }
+      }
+
+      public void insert(Object element, int n) throws InvalidIndexException {
+        lock.writeLock().lock();
+        try {
+          manipulator.insert(list, new ListNode(element), n);
+        } finally {
+          lock.writeLock().unlock();
+        }
+      }
+
+      public void delete(Object element) {
+        lock.writeLock().lock();
+        try {
+          manipulator.delete(list, element);
+        } finally {
+          lock.writeLock().unlock();
+        }
+      }
+    };
+  }
+
+  /**
+   * Runs the mixed workload on a list from the given number of threads and returns the lookups completed per
+   * second.
+   *
+   * @param list        the list under test
+   * @param threads     the number of threads
+   * @param size        the number of elements in the list
+   * @param readPercent the percentage of operations that are lookups
+   * @return the throughput in lookups per second
+   * @throws InterruptedException if interrupted while waiting for the threads to finish
+   */
+  private static long run(SharedList list, int threads, int size, int readPercent) throws InterruptedException {
+    LongAdder lookups = new LongAdder();
+    CountDownLatch finished = new CountDownLatch(threads);
+    long end = System.currentTimeMillis() + DURATION_MILLIS;
+    for (int t = 0; t < threads; t++) {
+      String prefix = "thread-" + t + "-";
+      new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long count = 0;
+        long writes = 0;
+        try {
+          while (System.currentTimeMillis() < end) {
+            if (random.nextInt(100) < readPercent) {
+              list.contains(random.nextInt(size));
+              count++;
+            } else {
+              String element = prefix + writes++;
+              list.insert(element, random.nextInt(size));
+              list.delete(element);
+            }
+          }
+        } catch (InvalidIndexException e) {
+          throw new IllegalStateException(e);
+        } finally {
+          lookups.add(count);
+          finished.countDown();
+        }
+      }).start();
+    }
+    finished.await();
+    return lookups.sum() * 1000 / DURATION_MILLIS;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+    int readPercent = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_READ_PERCENT;
+    int cores = Runtime.getRuntime().availableProcessors();
+    System.out.println("Optimistic reads vs read-write lock, " + size + " elements, " + readPercent + "% lookups");
+    System.out.printf("  1 thread   unsynchronised, lookups only %10d lookups/s%n", run(unsynchronised(size), 1, size, 100));
+
+    for (int threads = 1; threads <= 2 * cores; threads *= 2) {
+      long optimistic = run(optimistic(size), threads, size, readPercent);
+      long locked = run(readWriteLock(size), threads, size, readPercent);
+      System.out.printf("%3d threads  optimistic %10d lookups/s   read-write lock %10d lookups/s%n",
+          threads, optimistic, locked);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package common;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class represents nodes in a circular doubly linked list that may be used by several threads at once. Each
+ * node has its own lock, which must be held to change the node's links.
+ *
+ */
+public class ConcurrentListNode {
+
+    /**
+     * The element attribute represents the actual element stored in a linked list.
+     */
+    public final Object element;
+
+    /**
+     * The previous attribute represents the reference to the previous node in the linked list.
+     */
+    public ConcurrentListNode previous;
+
+    /**
+     * The next attribute represents the reference to the next node in the linked list.
+     */
+    public ConcurrentListNode next;
+
+    /**
+     * The lock attribute represents the lock guarding the previous and next links of this node.
+     */
+    public final ReentrantLock lock;
+
+    /**
+     * Constructor to permit instantiation of a list node containing the specified element but without linking the node to any other node.
+     * @param element the element to hold in this node
+     */
+    public ConcurrentListNode(Object element) {
+        this.element = element;
+        this.previous = null;
+        this.next = null;
+        this.lock = new ReentrantLock();
+    }
+}
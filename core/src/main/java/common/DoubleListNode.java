@@ -0,0 +1,33 @@
+package common;
+
+/**
+ * This class represents nodes in a doubly linked list of double values, stored without boxing.
+ *
+ */
+public class DoubleListNode {
+
+    /**
+     * The element attribute represents the actual double value stored in a linked list.
+     */
+    public double element;
+
+    /**
+     * The previous attribute represents the reference to the previous node in the linked list.
+     */
+    public DoubleListNode previous;
+
+    /**
+     * The next attribute represents the reference to the next node in the linked list.
+     */
+    public DoubleListNode next;
+
+    /**
+     * Constructor to permit instantiation of a list node containing the specified element but without linking the node to any other node.
+     * @param element the element to hold in this node
+     */
+    public DoubleListNode(double element) {
+        this.element = element;
+        this.previous = null;
+        this.next = null;
+    }
+}
@@ -0,0 +1,41 @@
+package common;
+
+/**
+ * This class represents a repeated occurrence of an element in a list, together with the position at which the
+ * element first occurred.
+ *
+ */
+public class Duplicate {
+
+    /**
+     * The element attribute represents the element that occurs more than once in the list.
+     */
+    public final Object element;
+
+    /**
+     * The firstIndex attribute represents the position of the first occurrence of the element, with zero interpreted as the head.
+     */
+    public final int firstIndex;
+
+    /**
+     * The index attribute represents the position of this repeated occurrence of the element, with zero interpreted as the head.
+     */
+    public final int index;
+
+    /**
+     * Constructor to permit instantiation of a duplicate report.
+     * @param element the repeated element
+     * @param firstIndex the position of the first occurrence of the element
+     * @param index the position of the repeated occurrence of the element
+     */
+    public Duplicate(Object element, int firstIndex, int index) {
+        this.element = element;
+        this.firstIndex = firstIndex;
+        this.index = index;
+    }
+
+    @Override
+    public String toString() {
+        return element + "@" + firstIndex + "," + index;
+    }
+}
@@ -0,0 +1,128 @@
+package common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class represents an index from each element of a list to the nodes holding it, so that membership and
+ * occurrence counts can be looked up without walking the list. Nodes are told apart by identity rather than by
+ * element, and an element held by a single node, the common case, is mapped straight to that node rather than to a
+ * set of one.
+ * The index relies on the hash codes of the elements, so an element must not be changed in a way that affects its
+ * hash code while its node is indexed.
+ *
+ */
+public class ElementIndex {
+
+    /**
+     * The nodes attribute maps each element to the node holding it, or to an identity set of nodes if more than one
+     * node holds it.
+     */
+    private final Map<Object, Object> nodes;
+
+    /**
+     * Constructor to permit instantiation of an empty index.
+     */
+    public ElementIndex() {
+        this.nodes = new HashMap<>();
+    }
+
+    /**
+     * Constructor to permit instantiation of an index of an existing list. The list is walked once to index its nodes.
+     * @param head the head of the list, or null for an empty list
+     */
+    public ElementIndex(ListNode head) {
+        this();
+        if (head == null) return;
+
+        ListNode currentNode = head;
+        do {
+            add(currentNode);
+            currentNode = currentNode.next;
+        } while (currentNode != head);
+    }
+
+    /**
+     * Adds a node to the index under its element.
+     * @param node the node to add
+     */
+    @SuppressWarnings("unchecked")
+    public void add(ListNode node) {
+        Object existing = nodes.putIfAbsent(node.element, node);
+        if (existing == null) return;
+
+        Set<ListNode> set;
+        if (existing instanceof ListNode) {
+            set = Collections.newSetFromMap(new IdentityHashMap<>());
+            set.add((ListNode) existing);
+            nodes.put(node.element, set);
+        } else {
+            set = (Set<ListNode>) existing;
+        }
+        set.add(node);
+    }
+
+    /**
+     * Removes a node from the index, doing nothing if it is not indexed.
+     * @param node the node to remove
+     */
+    @SuppressWarnings("unchecked")
+    public void remove(ListNode node) {
+        Object existing = nodes.get(node.element);
+        if (existing == node) {
+            nodes.remove(node.element);
+        } else if (existing instanceof Set) {
+            Set<ListNode> set = (Set<ListNode>) existing;
+            set.remove(node);
+            if (set.size() == 1) nodes.put(node.element, set.iterator().next());
+        }
+    }
+
+    /**
+     * Removes every node from the index.
+     */
+    public void clear() {
+        nodes.clear();
+    }
+
+    /**
+     * Returns whether any indexed node holds the element.
+     * @param element the element to look up
+     * @return true if some node holds the element
+     */
+    public boolean contains(Object element) {
+        return nodes.containsKey(element);
+    }
+
+    /**
+     * Returns the number of indexed nodes holding the element.
+     * @param element the element to look up
+     * @return the number of nodes holding the element
+     */
+    public int count(Object element) {
+        Object existing = nodes.get(element);
+        if (existing == null) return 0;
+        return existing instanceof ListNode ? 1 : ((Set<?>) existing).size();
+    }
+
+    /**
+     * Returns the node holding the element if it is the only one, so that it can be found without walking the list.
+     * @param element the element to look up
+     * @return the only node holding the element, or null if no node or more than one node holds it
+     */
+    public ListNode only(Object element) {
+        Object existing = nodes.get(element);
+        return existing instanceof ListNode ? (ListNode) existing : null;
+    }
+
+    /**
+     * Returns the number of distinct elements held by the indexed nodes.
+     * @return the number of distinct elements
+     */
+    public int distinct() {
+        return nodes.size();
+    }
+}
@@ -0,0 +1,14 @@
+package common;
+
+
+/**
+ * Exception class indicating that an invalid list has been specified.
+ *
+ */
+public class InvalidListException extends Exception {
+
+    /**
+     * The serialVersionUID attribute represents the version of the serialized form of this exception.
+     */
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,34 @@
+package common;
+
+/**
+ * This class represents a cursor remembering a position in a linked list, so that a later indexed access can walk
+ * from there instead of from the head or tail.
+ *
+ */
+public class ListCursor {
+
+    /**
+     * The node attribute represents the node the cursor is at, or null if the cursor has not been positioned yet.
+     */
+    public ListNode node;
+
+    /**
+     * The index attribute represents the position of node in the list, with zero interpreted as the head.
+     */
+    public int index;
+
+    /**
+     * The modCount attribute represents the modification count of the list handle when the cursor was positioned,
+     * so that a cursor left over from before a structural modification can be recognised and ignored.
+     */
+    public int modCount;
+
+    /**
+     * Constructor to permit instantiation of a cursor that has not been positioned yet.
+     */
+    public ListCursor() {
+        this.node = null;
+        this.index = 0;
+        this.modCount = 0;
+    }
+}
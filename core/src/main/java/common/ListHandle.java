@@ -0,0 +1,106 @@
+package common;
+
+import java.util.Objects;
+
+/**
+ * This class represents a handle on a circular doubly linked list, caching the list's tail and size so that they do
+ * not have to be recomputed by walking the list.
+ *
+ */
+public class ListHandle {
+
+    /**
+     * The head attribute represents the first node of the list, or null if the list is empty.
+     */
+    public ListNode head;
+
+    /**
+     * The tail attribute represents the last node of the list, or null if the list is empty.
+     */
+    public ListNode tail;
+
+    /**
+     * The size attribute represents the number of nodes in the list.
+     */
+    public int size;
+
+    /**
+     * The modCount attribute represents the number of structural modifications made to the list through this handle.
+     */
+    public int modCount;
+
+    /**
+     * The hashTracked attribute represents whether contentHash is kept up to date for this list.
+     */
+    public boolean hashTracked;
+
+    /**
+     * The contentHash attribute represents the sum of the hash codes of the elements in the list. It does not depend
+     * on the order of the elements, so it can be adjusted as nodes are added and removed anywhere in the list, and two
+     * lists with different content hashes cannot be equal. It is only meaningful while hashTracked is true.
+     */
+    public int contentHash;
+
+    /**
+     * The index attribute represents the index from elements to the nodes holding them, or null if the elements of
+     * the list are not indexed. It is kept up to date by ListHandleManipulator, so nodes of an indexed list must not
+     * be linked, unlinked or given new elements directly.
+     */
+    public ElementIndex index;
+
+    /**
+     * Constructor to permit instantiation of a handle on an empty list.
+     */
+    public ListHandle() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.modCount = 0;
+        this.hashTracked = false;
+        this.contentHash = 0;
+        this.index = null;
+    }
+
+    /**
+     * Constructor to permit instantiation of a handle on an existing list. The list is walked once to count its nodes.
+     * @param head the head of the list, or null for an empty list
+     */
+    public ListHandle(ListNode head) {
+        this(head, false);
+    }
+
+    /**
+     * Constructor to permit instantiation of a handle on an existing list, optionally tracking its content hash.
+     * The list is walked once to count its nodes and, if requested, to sum the hash codes of its elements.
+     * @param head the head of the list, or null for an empty list
+     * @param trackHash whether the content hash of the list should be kept up to date
+     */
+    public ListHandle(ListNode head, boolean trackHash) {
+        this(head, trackHash, false);
+    }
+
+    /**
+     * Constructor to permit instantiation of a handle on an existing list, optionally tracking its content hash and
+     * indexing its elements. The list is walked once to count its nodes and, if requested, to sum the hash codes of
+     * its elements and to index them.
+     * @param head the head of the list, or null for an empty list
+     * @param trackHash whether the content hash of the list should be kept up to date
+     * @param indexElements whether the elements of the list should be indexed
+     */
+    public ListHandle(ListNode head, boolean trackHash, boolean indexElements) {
+        this();
+        this.hashTracked = trackHash;
+        if (indexElements) this.index = new ElementIndex();
+        if (head == null) return;
+
+        this.head = head;
+        this.tail = head.previous;
+        ListNode currentNode = head;
+        do {
+            this.size++;
+            if (trackHash) this.contentHash += Objects.hashCode(currentNode.element);
+            if (indexElements) this.index.add(currentNode);
+            currentNode = currentNode.next;
+        } while (currentNode != head);
+    }
+}
@@ -1,5 +1,7 @@
 package common;
 
+import java.util.Objects;
+
 /**
  * This class represents nodes in a doubly linked list.
  *
@@ -39,4 +41,9 @@ public class ListNode {
         }
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(element);
+    }
 }
@@ -0,0 +1,29 @@
+package common;
+
+/**
+ * This class represents a run of consecutive nodes in a circular doubly linked list, so that different parts of a
+ * list can be worked on separately.
+ *
+ */
+public class ListSegment {
+
+    /**
+     * The start attribute represents the first node of the segment.
+     */
+    public final ListNode start;
+
+    /**
+     * The length attribute represents the number of nodes in the segment, following next links from start.
+     */
+    public final int length;
+
+    /**
+     * Constructor to permit instantiation of a segment.
+     * @param start the first node of the segment
+     * @param length the number of nodes in the segment
+     */
+    public ListSegment(ListNode start, int length) {
+        this.start = start;
+        this.length = length;
+    }
+}
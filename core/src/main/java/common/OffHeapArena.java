@@ -0,0 +1,170 @@
+package common;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * This class represents an arena of list nodes holding long values, stored outside the Java heap in a direct
+ * ByteBuffer. Each node is a fixed-width record of its element followed by the int slot numbers of the next and
+ * previous nodes, so a list of any length is a single object as far as the garbage collector is concerned.
+ * Nodes are never freed individually; all of them are released together when the arena is closed, after which any
+ * access to the arena throws an IllegalStateException.
+ * Closing the arena only drops its reference to the buffer. Java 17 has no public way to free a direct buffer
+ * explicitly, so the off-heap memory is returned when the garbage collector collects the buffer, which may be well
+ * after close returns; the same applies to the smaller buffers left behind each time the arena grows. Code that
+ * opens and closes many large arenas should allow for that memory in its -XX:MaxDirectMemorySize setting.
+ */
+public class OffHeapArena implements AutoCloseable {
+
+    /**
+     * The slot number standing for "no node", i.e. an empty list.
+     */
+    public static final int NIL = -1;
+
+    /**
+     * The number of bytes used by each node: an 8-byte element and two 4-byte links.
+     */
+    public static final int NODE_BYTES = 16;
+
+    /**
+     * The largest number of nodes an arena can hold, as the byte offset of every node must fit in an int.
+     */
+    public static final int MAX_NODES = Integer.MAX_VALUE / NODE_BYTES;
+
+    private static final int ELEMENT_OFFSET = 0;
+    private static final int NEXT_OFFSET = 8;
+    private static final int PREVIOUS_OFFSET = 12;
+
+    private ByteBuffer buffer;
+    private int used;
+
+    /**
+     * Constructor to permit instantiation of an arena with room for the given number of nodes. The arena grows by
+     * copying into a larger buffer if more nodes are allocated.
+     * @param capacity the initial number of nodes to reserve room for
+     */
+    public OffHeapArena(int capacity) {
+        this.buffer = allocateBuffer(Math.min(Math.max(1, capacity), MAX_NODES));
+        this.used = 0;
+    }
+
+    /**
+     * Allocates a single node holding the given element, linked to itself.
+     * @param element the element to hold in the node
+     * @return the slot number of the new node
+     */
+    public int allocate(long element) {
+        ByteBuffer nodes = buffer();
+        if (used == nodes.capacity() / NODE_BYTES) nodes = grow();
+
+        int node = used++;
+        nodes.putLong(offset(node) + ELEMENT_OFFSET, element);
+        nodes.putInt(offset(node) + NEXT_OFFSET, node);
+        nodes.putInt(offset(node) + PREVIOUS_OFFSET, node);
+        return node;
+    }
+
+    /**
+     * Returns the element held in a node.
+     * @param node the slot number of the node
+     * @return the element of the node
+     */
+    public long element(int node) {
+        return buffer().getLong(offset(node) + ELEMENT_OFFSET);
+    }
+
+    /**
+     * Replaces the element held in a node.
+     * @param node the slot number of the node
+     * @param element the new element of the node
+     */
+    public void setElement(int node, long element) {
+        buffer().putLong(offset(node) + ELEMENT_OFFSET, element);
+    }
+
+    /**
+     * Returns the next node of a node.
+     * @param node the slot number of the node
+     * @return the slot number of the next node
+     */
+    public int next(int node) {
+        return buffer().getInt(offset(node) + NEXT_OFFSET);
+    }
+
+    /**
+     * Replaces the next node of a node.
+     * @param node the slot number of the node
+     * @param next the slot number of the new next node
+     */
+    public void setNext(int node, int next) {
+        buffer().putInt(offset(node) + NEXT_OFFSET, next);
+    }
+
+    /**
+     * Returns the previous node of a node.
+     * @param node the slot number of the node
+     * @return the slot number of the previous node
+     */
+    public int previous(int node) {
+        return buffer().getInt(offset(node) + PREVIOUS_OFFSET);
+    }
+
+    /**
+     * Replaces the previous node of a node.
+     * @param node the slot number of the node
+     * @param previous the slot number of the new previous node
+     */
+    public void setPrevious(int node, int previous) {
+        buffer().putInt(offset(node) + PREVIOUS_OFFSET, previous);
+    }
+
+    /**
+     * Returns the number of nodes allocated in the arena.
+     * @return the number of allocated nodes
+     */
+    public int used() {
+        return used;
+    }
+
+    /**
+     * Returns whether the arena has been closed.
+     * @return true if the arena has been closed
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /**
+     * Releases every node in the arena by dropping the reference to its buffer, so the cost does not depend on the
+     * number of nodes it held. This does not free the off-heap memory itself: that happens only when the garbage
+     * collector later collects the buffer. Closing an arena more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        used = 0;
+    }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) throw new IllegalStateException("arena is closed");
+        return buffer;
+    }
+
+    private ByteBuffer grow() {
+        int capacity = buffer.capacity() / NODE_BYTES;
+        if (capacity == MAX_NODES) throw new IllegalStateException("arena is full");
+
+        ByteBuffer larger = allocateBuffer((int) Math.min(2L * capacity, MAX_NODES));
+        larger.put(0, buffer, 0, buffer.capacity());
+        buffer = larger;
+        return larger;
+    }
+
+    private static ByteBuffer allocateBuffer(int nodes) {
+        return ByteBuffer.allocateDirect(nodes * NODE_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private static int offset(int node) {
+        return node * NODE_BYTES;
+    }
+}
@@ -0,0 +1,37 @@
+package common;
+
+/**
+ * This class represents a node of an immutable singly linked list, which is also the list starting at that node.
+ * A list is never changed once it has been built: operations on it build a new list that shares as many nodes as
+ * possible with the old one, so a reference to a list is a consistent snapshot for as long as it is held.
+ * The empty list is represented by null.
+ *
+ */
+public final class PersistentList {
+
+    /**
+     * The element attribute represents the element stored at the front of the list.
+     */
+    public final Object element;
+
+    /**
+     * The next attribute represents the rest of the list after the front element, or null if there is none.
+     */
+    public final PersistentList next;
+
+    /**
+     * The size attribute represents the number of elements in the list starting at this node.
+     */
+    public final int size;
+
+    /**
+     * Constructor to permit instantiation of a list made of an element followed by an existing list.
+     * @param element the element at the front of the new list
+     * @param next the rest of the new list, or null if the element is its only one
+     */
+    public PersistentList(Object element, PersistentList next) {
+        this.element = element;
+        this.next = next;
+        this.size = next == null ? 1 : next.size + 1;
+    }
+}
@@ -0,0 +1,377 @@
+package impl;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListNode;
+import interfaces.IFilterCondition;
+import interfaces.IMapTransformation;
+import interfaces.IReduceOperator;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class represents an array-backed implementation of the IListManipulator operations. Instead of ListNode
+ * objects, nodes are slots in parallel arrays of elements and next/previous links, and lists are referred to by the
+ * slot of their head (NIL for an empty list). Following a link is an array lookup rather than a dereference of a
+ * separately allocated object, which keeps large rings compact in memory. Slots released by delete and filter are
+ * kept on a free list and reused by later allocations.
+ */
+public class ArrayRingManipulator {
+  // The slot number standing for "no node", i.e. an empty list
+  public static final int NIL = -1;
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private Object[] elements;
+  private int[] next;
+  private int[] previous;
+  // Slots that have never been used start at used; released slots are chained through next from freeHead
+  private int used = 0;
+  private int freeHead = NIL;
+
+  public ArrayRingManipulator() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public ArrayRingManipulator(int initialCapacity) {
+    int capacity = Math.max(1, initialCapacity);
+    elements = new Object[capacity];
+    next = new int[capacity];
+    previous = new int[capacity];
+  }
+
+  // Allocates a single node holding element, linked to itself, and returns its slot
+  public int newNode(Object element) {
+    int node;
+    if (freeHead != NIL) {
+      node = freeHead;
+      freeHead = next[node];
+    } else {
+      if (used == elements.length) grow();
+      node = used++;
+    }
+
+    elements[node] = element;
+    next[node] = node;
+    previous[node] = node;
+    return node;
+  }
+
+  public Object element(int node) {
+    return elements[node];
+  }
+
+  public int next(int node) {
+    return next[node];
+  }
+
+  public int previous(int node) {
+    return previous[node];
+  }
+
+  // Copies a list of ListNodes into this manipulator, returning the slot of the copied head
+  public int fromListNodes(ListNode head) {
+    if (head == null) return NIL;
+
+    int newHead = NIL;
+    ListNode currentNode = head;
+    do {
+      newHead = append(newHead, newNode(currentNode.element));
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return newHead;
+  }
+
+  // Copies a list in this manipulator out to a list of ListNodes, returning its head
+  public ListNode toListNodes(int head) {
+    if (isEmpty(head)) return null;
+
+    ListNode newHead = null;
+    int currentNode = head;
+    do {
+      ListNode node = new ListNode(elements[currentNode]);
+      if (newHead == null) {
+        node.next = node;
+        node.previous = node;
+        newHead = node;
+      } else {
+        node.previous = newHead.previous;
+        node.next = newHead;
+        newHead.previous.next = node;
+        newHead.previous = node;
+      }
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+    return newHead;
+  }
+
+  // Releases the slots of every node in a list for reuse
+  public void free(int head) {
+    if (isEmpty(head)) return;
+
+    int tail = previous[head];
+    int currentNode = head;
+    do {
+      elements[currentNode] = null;
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+
+    // The list's own next links already chain its slots from head to tail
+    next[tail] = freeHead;
+    freeHead = head;
+  }
+
+  public int size(int head) {
+    if (isEmpty(head)) return 0;
+
+    int count = 0;
+    int currentNode = head;
+    do {
+      count++;
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+    return count;
+  }
+
+  public boolean isEmpty(int head) {
+    return head == NIL;
+  }
+
+  public boolean contains(int head, Object element) {
+    return find(head, element) != NIL;
+  }
+
+  public int count(int head, Object element) {
+    if (isEmpty(head)) return 0;
+
+    int count = 0;
+    int currentNode = head;
+    do {
+      if (Objects.equals(elements[currentNode], element)) count++;
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+    return count;
+  }
+
+  public String convertToString(int head) {
+    if (isEmpty(head)) return "";
+
+    StringBuilder result = new StringBuilder();
+    int currentNode = head;
+    do {
+      if (currentNode != head) result.append(',');
+      result.append(elements[currentNode]);
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+    return result.toString();
+  }
+
+  public Object getFromFront(int head, int n) throws InvalidIndexException {
+    return elements[nodeAt(head, n, true)];
+  }
+
+  public Object getFromBack(int head, int n) throws InvalidIndexException {
+    return elements[nodeAt(head, n, false)];
+  }
+
+  public boolean equals(int head1, int head2) {
+    if (isEmpty(head1) || isEmpty(head2)) return head1 == head2;
+
+    int first = head1;
+    int second = head2;
+    do {
+      if (!Objects.equals(elements[first], elements[second])) return false;
+      first = next[first];
+      second = next[second];
+    } while (first != head1 && second != head2);
+    return first == head1 && second == head2;
+  }
+
+  // Add a single node to the front of a list (which may be empty), returning the new head
+  public int addHead(int head, int node) {
+    if (isEmpty(head)) return node;
+
+    int tail = previous[head];
+    next[tail] = node;
+    previous[node] = tail;
+    next[node] = head;
+    previous[head] = node;
+    return node;
+  }
+
+  // Appends one list to the end of another, returning the head of the combined list
+  public int append(int head1, int head2) {
+    if (isEmpty(head1)) return head2;
+    if (isEmpty(head2)) return head1;
+
+    int firstTail = previous[head1];
+    int secondTail = previous[head2];
+    next[firstTail] = head2;
+    next[secondTail] = head1;
+    previous[head2] = firstTail;
+    previous[head1] = secondTail;
+    return head1;
+  }
+
+  // Inserts a single node at index n, returning the head of the list
+  public int insert(int head, int node, int n) throws InvalidIndexException {
+    if (n == 0) return addHead(head, node);
+
+    int previousNode = nodeAt(head, n - 1, true);
+    next[node] = next[previousNode];
+    previous[node] = previousNode;
+    previous[next[previousNode]] = node;
+    next[previousNode] = node;
+    return head;
+  }
+
+  // Removes the first occurrence of elem and releases its slot, returning the head of the list
+  public int delete(int head, Object elem) {
+    int node = find(head, elem);
+    if (node == NIL) return head;
+
+    int newHead = head;
+    if (next[node] == node) {
+      newHead = NIL;
+    } else {
+      next[previous[node]] = next[node];
+      previous[next[node]] = previous[node];
+      if (node == head) newHead = next[node];
+    }
+    release(node);
+    return newHead;
+  }
+
+  // Reverses a list by swapping the links of every node, returning the old tail as the new head
+  public int reverse(int head) {
+    if (isEmpty(head)) return head;
+
+    int newHead = previous[head];
+    int currentNode = head;
+    do {
+      int temp = next[currentNode];
+      next[currentNode] = previous[currentNode];
+      previous[currentNode] = temp;
+      currentNode = temp;
+    } while (currentNode != head);
+    return newHead;
+  }
+
+  // Splits a list before node into two non-empty lists, returning the heads of both
+  public int[] split(int head, int node) throws InvalidListException {
+    if (isEmpty(head) || isEmpty(node) || node == head) throw new InvalidListException();
+
+    int currentNode = next[head];
+    while (currentNode != node) {
+      if (currentNode == head) throw new InvalidListException();
+      currentNode = next[currentNode];
+    }
+
+    int tail = previous[head];
+    int firstTail = previous[node];
+    next[firstTail] = head;
+    previous[head] = firstTail;
+    previous[node] = tail;
+    next[tail] = node;
+    return new int[] {head, node};
+  }
+
+  public int map(int head, IMapTransformation transformation) {
+    if (isEmpty(head)) return head;
+
+    int currentNode = head;
+    do {
+      elements[currentNode] = transformation.transform(elements[currentNode]);
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+    return head;
+  }
+
+  public Object reduce(int head, IReduceOperator operator, Object initial) {
+    Object result = initial;
+    if (isEmpty(head)) return result;
+
+    int currentNode = head;
+    do {
+      result = operator.operate(result, elements[currentNode]);
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+    return result;
+  }
+
+  // Removes every node whose element does not satisfy the condition in a single pass, releasing their
+  // slots, and returns the head of the remaining list
+  public int filter(int head, IFilterCondition condition) {
+    if (isEmpty(head)) return head;
+
+    int first = NIL;
+    int last = NIL;
+    int tail = previous[head];
+    int currentNode = head;
+    boolean atTail;
+    do {
+      int nextNode = next[currentNode];
+      atTail = currentNode == tail;
+      if (condition.isSatisfied(elements[currentNode])) {
+        if (first == NIL) {
+          first = currentNode;
+        } else {
+          next[last] = currentNode;
+          previous[currentNode] = last;
+        }
+        last = currentNode;
+      } else {
+        release(currentNode);
+      }
+      currentNode = nextNode;
+    } while (!atTail);
+
+    if (first != NIL) {
+      previous[first] = last;
+      next[last] = first;
+    }
+    return first;
+  }
+
+  // Returns the first node holding an element equal to element, or NIL
+  private int find(int head, Object element) {
+    if (isEmpty(head)) return NIL;
+
+    int currentNode = head;
+    do {
+      if (Objects.equals(elements[currentNode], element)) return currentNode;
+      currentNode = next[currentNode];
+    } while (currentNode != head);
+    return NIL;
+  }
+
+  // Returns the node n positions from the head (or tail), walking along next (or previous) links
+  private int nodeAt(int head, int n, boolean fromFront) throws InvalidIndexException {
+    if (n < 0 || isEmpty(head)) throw new InvalidIndexException();
+
+    int start = fromFront ? head : previous[head];
+    int[] links = fromFront ? next : previous;
+    int currentNode = start;
+    for (; n > 0; n--) {
+      currentNode = links[currentNode];
+      if (currentNode == start) throw new InvalidIndexException();
+    }
+    return currentNode;
+  }
+
+  // Puts a single unlinked slot onto the free list
+  private void release(int node) {
+    elements[node] = null;
+    next[node] = freeHead;
+    previous[node] = NIL;
+    freeHead = node;
+  }
+
+  private void grow() {
+    int capacity = elements.length * 2;
+    elements = Arrays.copyOf(elements, capacity);
+    next = Arrays.copyOf(next, capacity);
+    previous = Arrays.copyOf(previous, capacity);
+  }
+}
@@ -0,0 +1,244 @@
+package impl;
+
+import common.ConcurrentListNode;
+import common.InvalidIndexException;
+
+import java.util.Objects;
+
+/**
+ * This class represents a thread-safe implementation of the list operations using fine-grained locking. A list is
+ * referred to by a sentinel node created by newList, which stays in the ring ahead of the first element, so an empty
+ * list is the sentinel linked to itself and the head never has to be replaced.
+ * Every operation walks forwards from the sentinel holding the lock of at most a few consecutive nodes at a time
+ * (hand-over-hand locking), so threads working on different parts of a list do not wait for each other. Locks are
+ * only ever waited for in list order, which rules out deadlock; an operation that needs the sentinel's lock at the
+ * end of the list only tries to take it, and starts again if another thread holds it.
+ */
+public class ConcurrentListManipulator {
+  // Creates an empty list, returning its sentinel
+  public ConcurrentListNode newList() {
+    ConcurrentListNode sentinel = new ConcurrentListNode(null);
+    sentinel.next = sentinel;
+    sentinel.previous = sentinel;
+    return sentinel;
+  }
+
+  public int size(ConcurrentListNode list) {
+    int[] count = {0};
+    walk(list, element -> {
+      count[0]++;
+      return true;
+    });
+    return count[0];
+  }
+
+  public boolean isEmpty(ConcurrentListNode list) {
+    list.lock.lock();
+    try {
+      return list.next == list;
+    } finally {
+      list.lock.unlock();
+    }
+  }
+
+  public boolean contains(ConcurrentListNode list, Object element) {
+    boolean[] found = {false};
+    walk(list, current -> !(found[0] = Objects.equals(current, element)));
+    return found[0];
+  }
+
+  public int count(ConcurrentListNode list, Object element) {
+    int[] count = {0};
+    walk(list, current -> {
+      if (Objects.equals(current, element)) count[0]++;
+      return true;
+    });
+    return count[0];
+  }
+
+  public String convertToString(ConcurrentListNode list) {
+    StringBuilder result = new StringBuilder();
+    walk(list, element -> {
+      if (result.length() > 0) result.append(',');
+      result.append(element);
+      return true;
+    });
+    return result.toString();
+  }
+
+  // Get nth element from the front, with the first element being the 0th element
+  public Object getFromFront(ConcurrentListNode list, int n) throws InvalidIndexException {
+    if (n < 0) throw new InvalidIndexException();
+
+    int[] index = {0};
+    Object[] found = {list};
+    walk(list, element -> {
+      if (index[0]++ < n) return true;
+      found[0] = element;
+      return false;
+    });
+    if (found[0] == list) throw new InvalidIndexException();
+    return found[0];
+  }
+
+  // Adds element to the front of the list
+  public void addHead(ConcurrentListNode list, Object element) {
+    ConcurrentListNode node = new ConcurrentListNode(element);
+    list.lock.lock();
+    try {
+      ConcurrentListNode first = list.next;
+      if (first == list) {
+        link(list, node, list);
+        return;
+      }
+      first.lock.lock();
+      try {
+        link(list, node, first);
+      } finally {
+        first.lock.unlock();
+      }
+    } finally {
+      list.lock.unlock();
+    }
+  }
+
+  // Adds element to the end of the list. The sentinel's lock guards its previous link, so the tail cannot
+  // change while it is held, and a thread holding the tail never waits for the sentinel.
+  public void append(ConcurrentListNode list, Object element) {
+    ConcurrentListNode node = new ConcurrentListNode(element);
+    list.lock.lock();
+    try {
+      ConcurrentListNode tail = list.previous;
+      if (tail == list) {
+        link(list, node, list);
+        return;
+      }
+      tail.lock.lock();
+      try {
+        link(tail, node, list);
+      } finally {
+        tail.lock.unlock();
+      }
+    } finally {
+      list.lock.unlock();
+    }
+  }
+
+  // Inserts element at index n
+  public void insert(ConcurrentListNode list, Object element, int n) throws InvalidIndexException {
+    if (n < 0) throw new InvalidIndexException();
+
+    ConcurrentListNode node = new ConcurrentListNode(element);
+    while (true) {
+      ConcurrentListNode previous = list;
+      previous.lock.lock();
+      try {
+        for (int i = 0; i < n; i++) {
+          ConcurrentListNode next = previous.next;
+          if (next == list) throw new InvalidIndexException();
+          next.lock.lock();
+          previous.lock.unlock();
+          previous = next;
+        }
+
+        ConcurrentListNode next = previous.next;
+        if (next == list) {
+          if (previous == list) {
+            link(list, node, list);
+            return;
+          }
+          if (!list.lock.tryLock()) continue;
+        } else {
+          next.lock.lock();
+        }
+        try {
+          link(previous, node, next);
+          return;
+        } finally {
+          next.lock.unlock();
+        }
+      } finally {
+        previous.lock.unlock();
+      }
+    }
+  }
+
+  // Removes the first occurrence of elem, returning whether it was found
+  public boolean delete(ConcurrentListNode list, Object elem) {
+    retry:
+    while (true) {
+      ConcurrentListNode previous = list;
+      previous.lock.lock();
+      try {
+        ConcurrentListNode current = previous.next;
+        while (current != list) {
+          current.lock.lock();
+          boolean keepCurrent = false;
+          try {
+            if (Objects.equals(current.element, elem)) {
+              ConcurrentListNode next = current.next;
+              // The sentinel is already held if current is the only node
+              boolean lockNext = next != previous;
+              if (lockNext) {
+                if (next != list) {
+                  next.lock.lock();
+                } else if (!list.lock.tryLock()) {
+                  continue retry;
+                }
+              }
+              try {
+                previous.next = next;
+                next.previous = previous;
+                current.next = current;
+                current.previous = current;
+                return true;
+              } finally {
+                if (lockNext) next.lock.unlock();
+              }
+            }
+            keepCurrent = true;
+          } finally {
+            if (!keepCurrent) current.lock.unlock();
+          }
+          previous.lock.unlock();
+          previous = current;
+          current = current.next;
+        }
+        return false;
+      } finally {
+        previous.lock.unlock();
+      }
+    }
+  }
+
+  // Links node in between two adjacent nodes, whose locks must be held
+  private static void link(ConcurrentListNode previous, ConcurrentListNode node, ConcurrentListNode next) {
+    node.previous = previous;
+    node.next = next;
+    previous.next = node;
+    next.previous = node;
+  }
+
+  // Hands each element to the visitor in list order until the visitor returns false, holding the lock of the
+  // node being visited and taking the next node's lock before letting go of it
+  private static void walk(ConcurrentListNode list, Visitor visitor) {
+    ConcurrentListNode current = list;
+    current.lock.lock();
+    try {
+      while (current.next != list) {
+        ConcurrentListNode next = current.next;
+        next.lock.lock();
+        current.lock.unlock();
+        current = next;
+        if (!visitor.visit(current.element)) return;
+      }
+    } finally {
+      current.lock.unlock();
+    }
+  }
+
+  // Receives the elements of a list, returning false to stop the walk
+  private interface Visitor {
+    boolean visit(Object element);
+  }
+}
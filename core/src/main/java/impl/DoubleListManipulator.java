@@ -0,0 +1,173 @@
+package impl;
+
+import common.DoubleListNode;
+import common.InvalidIndexException;
+import interfaces.IDoubleFilterCondition;
+import interfaces.IDoubleMapTransformation;
+import interfaces.IDoubleReduceOperator;
+
+/**
+ * This class represents the iterative implementation of the list operations for circular doubly linked lists of
+ * double values. Elements are never boxed, so map, reduce, filter, count and contains do not allocate.
+ */
+public class DoubleListManipulator {
+  // Returns the size of the list given its head node
+  public int size(DoubleListNode head) {
+    if (isEmpty(head)) return 0;
+
+    DoubleListNode currentNode = head;
+    int count = 1;
+    while (currentNode.next != head) {
+      currentNode = currentNode.next;
+      count++;
+    }
+    return count;
+  }
+
+  // Returns whether the list is empty (head is null)
+  public boolean isEmpty(DoubleListNode head) {
+    return head == null;
+  }
+
+  // Returns whether list contains element
+  public boolean contains(DoubleListNode head, double element) {
+    if (isEmpty(head)) return false;
+
+    // Elements are compared as Double.equals would, so NaN matches NaN and 0.0 does not match -0.0
+    DoubleListNode currentNode = head;
+    do {
+      if (Double.compare(currentNode.element, element) == 0) return true;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return false;
+  }
+
+  // Returns number of element occurrences in the list
+  public int count(DoubleListNode head, double element) {
+    if (isEmpty(head)) return 0;
+
+    DoubleListNode currentNode = head;
+    int count = 0;
+    do {
+      if (Double.compare(currentNode.element, element) == 0) count++;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return count;
+  }
+
+  // Prints the list with ',' delimiter
+  public String convertToString(DoubleListNode head) {
+    if (isEmpty(head)) return "";
+
+    StringBuilder result = new StringBuilder();
+    DoubleListNode currentNode = head;
+    do {
+      if (currentNode != head) result.append(',');
+      result.append(currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return result.toString();
+  }
+
+  // Get nth element from the front, with the first element being the 0th element
+  public double getFromFront(DoubleListNode head, int n) throws InvalidIndexException {
+    if (n < 0 || isEmpty(head)) throw new InvalidIndexException();
+
+    DoubleListNode currentNode = head;
+    for (; n > 0; n--) {
+      currentNode = currentNode.next;
+      if (currentNode == head) throw new InvalidIndexException();
+    }
+    return currentNode.element;
+  }
+
+  // Add node to start of the list; head may be null, in which case node becomes a list of one
+  public DoubleListNode addHead(DoubleListNode head, DoubleListNode node) {
+    if (isEmpty(head)) {
+      node.next = node;
+      node.previous = node;
+      return node;
+    }
+
+    DoubleListNode tail = head.previous;
+    tail.next = node;
+    node.previous = tail;
+    node.next = head;
+    head.previous = node;
+    return node;
+  }
+
+  // Appends list to another
+  public DoubleListNode append(DoubleListNode firstListHead, DoubleListNode secondListHead) {
+    if (isEmpty(firstListHead)) return secondListHead;
+    if (isEmpty(secondListHead)) return firstListHead;
+
+    DoubleListNode firstTail = firstListHead.previous;
+    DoubleListNode secondTail = secondListHead.previous;
+    firstTail.next = secondListHead;
+    secondTail.next = firstListHead;
+    secondListHead.previous = firstTail;
+    firstListHead.previous = secondTail;
+    return firstListHead;
+  }
+
+  // Replaces each element with the result of the transformation
+  public DoubleListNode map(DoubleListNode head, IDoubleMapTransformation transformation) {
+    if (isEmpty(head)) return null;
+
+    DoubleListNode currentNode = head;
+    do {
+      currentNode.element = transformation.transform(currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return head;
+  }
+
+  // Combines the initial value and every element with the operator, e.g. to sum the list or find its minimum
+  public double reduce(DoubleListNode head, IDoubleReduceOperator operator, double initial) {
+    double result = initial;
+    if (isEmpty(head)) return result;
+
+    DoubleListNode currentNode = head;
+    do {
+      result = operator.operate(result, currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return result;
+  }
+
+  // Unlinks every node whose element does not satisfy the condition in a single pass, returning the
+  // head of the remaining list (null if no node survives)
+  public DoubleListNode filter(DoubleListNode head, IDoubleFilterCondition condition) {
+    if (isEmpty(head)) return null;
+
+    DoubleListNode first = null;
+    DoubleListNode last = null;
+    DoubleListNode tail = head.previous;
+    DoubleListNode currentNode = head;
+    boolean atTail;
+    do {
+      DoubleListNode nextNode = currentNode.next;
+      atTail = currentNode == tail;
+      if (condition.isSatisfied(currentNode.element)) {
+        if (first == null) {
+          first = currentNode;
+        } else {
+          last.next = currentNode;
+          currentNode.previous = last;
+        }
+        last = currentNode;
+      } else {
+        currentNode.next = currentNode;
+        currentNode.previous = currentNode;
+      }
+      currentNode = nextNode;
+    } while (!atTail);
+
+    if (first != null) {
+      first.previous = last;
+      last.next = first;
+    }
+    return first;
+  }
+}
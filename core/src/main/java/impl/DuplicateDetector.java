@@ -0,0 +1,218 @@
+package impl;
+
+import common.Duplicate;
+import common.ListNode;
+import interfaces.IHashingStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class finds equal elements in a circular doubly linked list in expected linear time, using an open-addressing
+ * hash set of the elements seen so far.
+ */
+public class DuplicateDetector {
+  // Hashes and compares elements with their own hashCode and equals methods, treating null as a value
+  private static final IHashingStrategy DEFAULT_STRATEGY = new IHashingStrategy() {
+    @Override
+    public int hash(Object element) {
+      return Objects.hashCode(element);
+    }
+
+    @Override
+    public boolean equals(Object element1, Object element2) {
+      return Objects.equals(element1, element2);
+    }
+  };
+
+  // The fewest candidates the bounded check holds at a time, however small its Bloom filter
+  private static final int MIN_CANDIDATES = 16;
+
+  private final IHashingStrategy strategy;
+
+  public DuplicateDetector() {
+    this(DEFAULT_STRATEGY);
+  }
+
+  public DuplicateDetector(IHashingStrategy strategy) {
+    this.strategy = strategy;
+  }
+
+  // Returns whether the list contains two equal elements, stopping at the first repeat
+  public boolean containsDuplicates(ListNode head) {
+    if (head == null) return false;
+
+    ElementTable seen = new ElementTable();
+    ListNode currentNode = head;
+    do {
+      if (seen.add(currentNode.element, 0) >= 0) return true;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+
+    return false;
+  }
+
+  // Returns every repeated occurrence of an element in list order, each paired with the
+  // position at which that element first occurred.
+  public List<Duplicate> findDuplicates(ListNode head) {
+    List<Duplicate> duplicates = new ArrayList<>();
+    if (head == null) return duplicates;
+
+    ElementTable seen = new ElementTable();
+    ListNode currentNode = head;
+    int index = 0;
+    do {
+      int firstIndex = seen.add(currentNode.element, index);
+      if (firstIndex >= 0) duplicates.add(new Duplicate(currentNode.element, firstIndex, index));
+      currentNode = currentNode.next;
+      index++;
+    } while (currentNode != head);
+
+    return duplicates;
+  }
+
+  // Returns whether the list contains two equal elements in bounded memory. A first pass feeds every element
+  // to a Bloom filter of filterBits bits, and elements the filter has possibly seen before are kept as
+  // candidates in an exact set; a candidate equal to an earlier candidate is a real repeat and ends the pass.
+  // At most max(16, filterBits / 64) candidates are held at a time: whenever that many have been collected,
+  // they are checked exactly by a walk of the whole list and then dropped. So besides the filter, memory is
+  // two tables of at most that many elements, at the cost of a further walk for each full batch of
+  // candidates, which makes the time quadratic in the worst case of a saturated filter.
+  public boolean containsDuplicatesBounded(ListNode head, int filterBits) {
+    if (head == null) return false;
+
+    int maxCandidates = Math.max(MIN_CANDIDATES, filterBits / 64);
+    BloomFilter filter = new BloomFilter(filterBits);
+    ElementTable candidates = new ElementTable();
+    ListNode currentNode = head;
+    do {
+      int hash = strategy.hash(currentNode.element);
+      if (filter.mightContain(hash)) {
+        if (candidates.add(currentNode.element, 0) >= 0) return true;
+        if (candidates.size == maxCandidates) {
+          if (repeatsCandidate(head, candidates)) return true;
+          candidates = new ElementTable();
+        }
+      }
+      filter.add(hash);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+
+    return candidates.size > 0 && repeatsCandidate(head, candidates);
+  }
+
+  // Walks the whole list, returning whether some candidate occurs in it twice
+  private boolean repeatsCandidate(ListNode head, ElementTable candidates) {
+    ElementTable seen = new ElementTable();
+    ListNode currentNode = head;
+    do {
+      if (candidates.contains(currentNode.element) && seen.add(currentNode.element, 0) >= 0) return true;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+
+    return false;
+  }
+
+  // Spreads the high bits of a hash code into the low bits used to index a power-of-two table
+  private static int spread(int hash) {
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Open-addressing (linear probing) hash table from elements to the index at which they were first added.
+   */
+  private class ElementTable {
+    // Marks the slot of a null element, since null also marks an unused slot
+    private final Object nullElement = new Object();
+
+    private Object[] elements = new Object[16];
+    private int[] indices = new int[16];
+    private int size = 0;
+
+    // Adds element with the given index, returning -1 if it was not present, or else the index it
+    // was first added with (in which case the table is unchanged).
+    int add(Object element, int index) {
+      Object key = element == null ? nullElement : element;
+      int slot = find(key);
+      if (elements[slot] != null) return indices[slot];
+
+      elements[slot] = key;
+      indices[slot] = index;
+      if (++size * 2 > elements.length) grow();
+      return -1;
+    }
+
+    boolean contains(Object element) {
+      return elements[find(element == null ? nullElement : element)] != null;
+    }
+
+    // Returns the slot holding key, or the empty slot where it would be placed
+    private int find(Object key) {
+      int mask = elements.length - 1;
+      int slot = spread(hash(key)) & mask;
+      while (elements[slot] != null && !equal(elements[slot], key)) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    private void grow() {
+      Object[] oldElements = elements;
+      int[] oldIndices = indices;
+      elements = new Object[oldElements.length * 2];
+      indices = new int[oldElements.length * 2];
+      for (int i = 0; i < oldElements.length; i++) {
+        if (oldElements[i] != null) {
+          int slot = find(oldElements[i]);
+          elements[slot] = oldElements[i];
+          indices[slot] = oldIndices[i];
+        }
+      }
+    }
+
+    private int hash(Object key) {
+      return strategy.hash(key == nullElement ? null : key);
+    }
+
+    private boolean equal(Object key1, Object key2) {
+      if (key1 == nullElement || key2 == nullElement) return key1 == key2;
+      return strategy.equals(key1, key2);
+    }
+  }
+
+  /**
+   * Fixed-size Bloom filter over element hash codes, using three bit positions per hash code.
+   */
+  private static class BloomFilter {
+    private final long[] bits;
+    private final int mask;
+
+    BloomFilter(int filterBits) {
+      // Round up to a power of two of at least 64 bits so positions can be masked
+      int size = filterBits <= 64 ? 64 : Integer.highestOneBit(Math.min(filterBits, 1 << 30) - 1) << 1;
+      bits = new long[size / 64];
+      mask = size - 1;
+    }
+
+    void add(int hash) {
+      int h1 = spread(hash);
+      int h2 = Integer.rotateLeft(h1, 15) | 1;
+      for (int i = 0; i < 3; i++) {
+        int position = (h1 + i * h2) & mask;
+        bits[position >>> 6] |= 1L << position;
+      }
+    }
+
+    boolean mightContain(int hash) {
+      int h1 = spread(hash);
+      int h2 = Integer.rotateLeft(h1, 15) | 1;
+      for (int i = 0; i < 3; i++) {
+        int position = (h1 + i * h2) & mask;
+        if ((bits[position >>> 6] & (1L << position)) == 0) return false;
+      }
+      return true;
+    }
+  }
+}
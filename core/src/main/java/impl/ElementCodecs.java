@@ -0,0 +1,79 @@
+package impl;
+
+import interfaces.IElementCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class holds the built-in codecs for storing lists of Integer, Long and Double elements with MappedListFile.
+ */
+public final class ElementCodecs {
+  public static final IElementCodec INT = new IElementCodec() {
+    @Override
+    public int typeId() {
+      return 1;
+    }
+
+    @Override
+    public int width() {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer, int offset, Object element) {
+      buffer.putInt(offset, (Integer) element);
+    }
+
+    @Override
+    public Object decode(ByteBuffer buffer, int offset) {
+      return buffer.getInt(offset);
+    }
+  };
+
+  public static final IElementCodec LONG = new IElementCodec() {
+    @Override
+    public int typeId() {
+      return 2;
+    }
+
+    @Override
+    public int width() {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer, int offset, Object element) {
+      buffer.putLong(offset, (Long) element);
+    }
+
+    @Override
+    public Object decode(ByteBuffer buffer, int offset) {
+      return buffer.getLong(offset);
+    }
+  };
+
+  public static final IElementCodec DOUBLE = new IElementCodec() {
+    @Override
+    public int typeId() {
+      return 3;
+    }
+
+    @Override
+    public int width() {
+      return Double.BYTES;
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer, int offset, Object element) {
+      buffer.putDouble(offset, (Double) element);
+    }
+
+    @Override
+    public Object decode(ByteBuffer buffer, int offset) {
+      return buffer.getDouble(offset);
+    }
+  };
+
+  private ElementCodecs() {
+  }
+}
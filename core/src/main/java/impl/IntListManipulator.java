@@ -0,0 +1,172 @@
+package impl;
+
+import common.IntListNode;
+import common.InvalidIndexException;
+import interfaces.IIntFilterCondition;
+import interfaces.IIntMapTransformation;
+import interfaces.IIntReduceOperator;
+
+/**
+ * This class represents the iterative implementation of the list operations for circular doubly linked lists of
+ * int values. Elements are never boxed, so map, reduce, filter, count and contains do not allocate.
+ */
+public class IntListManipulator {
+  // Returns the size of the list given its head node
+  public int size(IntListNode head) {
+    if (isEmpty(head)) return 0;
+
+    IntListNode currentNode = head;
+    int count = 1;
+    while (currentNode.next != head) {
+      currentNode = currentNode.next;
+      count++;
+    }
+    return count;
+  }
+
+  // Returns whether the list is empty (head is null)
+  public boolean isEmpty(IntListNode head) {
+    return head == null;
+  }
+
+  // Returns whether list contains element
+  public boolean contains(IntListNode head, int element) {
+    if (isEmpty(head)) return false;
+
+    IntListNode currentNode = head;
+    do {
+      if (currentNode.element == element) return true;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return false;
+  }
+
+  // Returns number of element occurrences in the list
+  public int count(IntListNode head, int element) {
+    if (isEmpty(head)) return 0;
+
+    IntListNode currentNode = head;
+    int count = 0;
+    do {
+      if (currentNode.element == element) count++;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return count;
+  }
+
+  // Prints the list with ',' delimiter
+  public String convertToString(IntListNode head) {
+    if (isEmpty(head)) return "";
+
+    StringBuilder result = new StringBuilder();
+    IntListNode currentNode = head;
+    do {
+      if (currentNode != head) result.append(',');
+      result.append(currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return result.toString();
+  }
+
+  // Get nth element from the front, with the first element being the 0th element
+  public int getFromFront(IntListNode head, int n) throws InvalidIndexException {
+    if (n < 0 || isEmpty(head)) throw new InvalidIndexException();
+
+    IntListNode currentNode = head;
+    for (; n > 0; n--) {
+      currentNode = currentNode.next;
+      if (currentNode == head) throw new InvalidIndexException();
+    }
+    return currentNode.element;
+  }
+
+  // Add node to start of the list; head may be null, in which case node becomes a list of one
+  public IntListNode addHead(IntListNode head, IntListNode node) {
+    if (isEmpty(head)) {
+      node.next = node;
+      node.previous = node;
+      return node;
+    }
+
+    IntListNode tail = head.previous;
+    tail.next = node;
+    node.previous = tail;
+    node.next = head;
+    head.previous = node;
+    return node;
+  }
+
+  // Appends list to another
+  public IntListNode append(IntListNode firstListHead, IntListNode secondListHead) {
+    if (isEmpty(firstListHead)) return secondListHead;
+    if (isEmpty(secondListHead)) return firstListHead;
+
+    IntListNode firstTail = firstListHead.previous;
+    IntListNode secondTail = secondListHead.previous;
+    firstTail.next = secondListHead;
+    secondTail.next = firstListHead;
+    secondListHead.previous = firstTail;
+    firstListHead.previous = secondTail;
+    return firstListHead;
+  }
+
+  // Replaces each element with the result of the transformation
+  public IntListNode map(IntListNode head, IIntMapTransformation transformation) {
+    if (isEmpty(head)) return null;
+
+    IntListNode currentNode = head;
+    do {
+      currentNode.element = transformation.transform(currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return head;
+  }
+
+  // Combines the initial value and every element with the operator, e.g. to sum the list or find its minimum
+  public int reduce(IntListNode head, IIntReduceOperator operator, int initial) {
+    int result = initial;
+    if (isEmpty(head)) return result;
+
+    IntListNode currentNode = head;
+    do {
+      result = operator.operate(result, currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return result;
+  }
+
+  // Unlinks every node whose element does not satisfy the condition in a single pass, returning the
+  // head of the remaining list (null if no node survives)
+  public IntListNode filter(IntListNode head, IIntFilterCondition condition) {
+    if (isEmpty(head)) return null;
+
+    IntListNode first = null;
+    IntListNode last = null;
+    IntListNode tail = head.previous;
+    IntListNode currentNode = head;
+    boolean atTail;
+    do {
+      IntListNode nextNode = currentNode.next;
+      atTail = currentNode == tail;
+      if (condition.isSatisfied(currentNode.element)) {
+        if (first == null) {
+          first = currentNode;
+        } else {
+          last.next = currentNode;
+          currentNode.previous = last;
+        }
+        last = currentNode;
+      } else {
+        currentNode.next = currentNode;
+        currentNode.previous = currentNode;
+      }
+      currentNode = nextNode;
+    } while (!atTail);
+
+    if (first != null) {
+      first.previous = last;
+      last.next = first;
+    }
+    return first;
+  }
+}
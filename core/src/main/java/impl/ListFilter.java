@@ -0,0 +1,114 @@
+package impl;
+
+import common.ElementIndex;
+import common.ListHandle;
+import common.ListNode;
+import interfaces.IFilterCondition;
+
+import java.util.Objects;
+
+/**
+ * This class filters circular doubly linked lists in a single pass, either in place by unlinking rejected nodes or
+ * by building a new list of the surviving elements.
+ */
+public class ListFilter {
+  // Removes every node whose element does not satisfy the condition, returning the head of the
+  // remaining list (null if no node survives).
+  public ListNode filterInPlace(ListNode head, IFilterCondition condition) {
+    if (head == null) return null;
+
+    ListHandle list = new ListHandle();
+    list.head = head;
+    list.tail = head.previous;
+    filterInPlace(list, condition);
+    return list.head;
+  }
+
+  // Removes every node whose element does not satisfy the condition, updating the handle's head,
+  // tail and size. Nodes are visited once from head to tail and the survivors are relinked to each
+  // other as they are found, so rejected nodes are dropped by identity rather than looked up by value.
+  public void filterInPlace(ListHandle list, IFilterCondition condition) {
+    if (list.head == null) return;
+
+    ListNode first = null;
+    ListNode last = null;
+    int survivors = 0;
+    int rejected = 0;
+    ListNode tail = list.tail;
+    ListNode currentNode = list.head;
+    boolean atTail;
+    do {
+      ListNode nextNode = currentNode.next;
+      atTail = currentNode == tail;
+      if (condition.isSatisfied(currentNode.element)) {
+        if (first == null) {
+          first = currentNode;
+        } else {
+          last.next = currentNode;
+          currentNode.previous = last;
+        }
+        last = currentNode;
+        survivors++;
+      } else {
+        // Leave the rejected node as a single node rather than pointing into the filtered list
+        currentNode.next = currentNode;
+        currentNode.previous = currentNode;
+        rejected++;
+        if (list.hashTracked) list.contentHash -= Objects.hashCode(currentNode.element);
+        if (list.index != null) list.index.remove(currentNode);
+      }
+      currentNode = nextNode;
+    } while (!atTail);
+
+    if (first != null) {
+      first.previous = last;
+      last.next = first;
+    }
+    list.head = first;
+    list.tail = last;
+    list.size = survivors;
+    if (rejected > 0) list.modCount++;
+  }
+
+  // Builds a new list of the elements that satisfy the condition, leaving the original list unchanged.
+  public ListNode filterCopy(ListNode head, IFilterCondition condition) {
+    if (head == null) return null;
+
+    ListHandle list = new ListHandle();
+    list.head = head;
+    list.tail = head.previous;
+    return filterCopy(list, condition).head;
+  }
+
+  // Builds a handle on a new list of the elements that satisfy the condition, leaving the original list unchanged.
+  public ListHandle filterCopy(ListHandle list, IFilterCondition condition) {
+    ListHandle result = new ListHandle();
+    result.hashTracked = list.hashTracked;
+    if (list.index != null) result.index = new ElementIndex();
+    if (list.head == null) return result;
+
+    ListNode currentNode = list.head;
+    do {
+      if (condition.isSatisfied(currentNode.element)) {
+        ListNode node = new ListNode(currentNode.element);
+        if (result.head == null) {
+          result.head = node;
+        } else {
+          result.tail.next = node;
+          node.previous = result.tail;
+        }
+        result.tail = node;
+        result.size++;
+        if (result.hashTracked) result.contentHash += Objects.hashCode(node.element);
+        if (result.index != null) result.index.add(node);
+      }
+      currentNode = currentNode.next;
+    } while (currentNode != list.head);
+
+    if (result.head != null) {
+      result.head.previous = result.tail;
+      result.tail.next = result.head;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,342 @@
+package impl;
+
+import common.ElementIndex;
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListCursor;
+import common.ListHandle;
+import common.ListNode;
+import interfaces.IFilterCondition;
+import interfaces.IListHandleManipulator;
+import interfaces.IMapTransformation;
+import interfaces.IReduceOperator;
+
+import java.util.Objects;
+
+/**
+ * This class represents the iterative implementation of the IListHandleManipulator interface.
+ */
+public class ListHandleManipulator implements IListHandleManipulator {
+  // Read-only traversals do not depend on the size, so they are shared with the plain manipulator
+  private final ListManipulator manipulator = new ListManipulator();
+  private final ListFilter listFilter = new ListFilter();
+
+  // Returns the cached size of the list
+  @Override
+  public int size(ListHandle list) {
+    return list.size;
+  }
+
+  // Returns whether the list is empty (has no nodes)
+  @Override
+  public boolean isEmpty(ListHandle list) {
+    return list.size == 0;
+  }
+
+  // Looks the element up in the index if the list has one, and walks the list otherwise. The walk
+  // compares with each node's element.equals, which never matches null, so neither does the index.
+  @Override
+  public boolean contains(ListHandle list, Object element) {
+    if (list.index != null) return element != null && list.index.contains(element);
+    return manipulator.contains(list.head, element);
+  }
+
+  // Looks the element up in the index if the list has one, and walks the list otherwise; as with
+  // contains, null is never counted
+  @Override
+  public int count(ListHandle list, Object element) {
+    if (list.index != null) return element == null ? 0 : list.index.count(element);
+    return manipulator.count(list.head, element);
+  }
+
+  @Override
+  public String convertToString(ListHandle list) {
+    return manipulator.convertToString(list.head);
+  }
+
+  // Get nth element from the front, with the bounds check done against the cached size
+  @Override
+  public Object getFromFront(ListHandle list, int n) throws InvalidIndexException {
+    if (n < 0 || n >= list.size) throw new InvalidIndexException();
+    return nodeAt(list, n).element;
+  }
+
+  // Get nth element from the back, with the bounds check done against the cached size
+  @Override
+  public Object getFromBack(ListHandle list, int n) throws InvalidIndexException {
+    if (n < 0 || n >= list.size) throw new InvalidIndexException();
+    return nodeAt(list, list.size - 1 - n).element;
+  }
+
+  // Get the element at an index, walking from the cursor if it is closer than either end of the list.
+  // A cursor positioned before the list's last structural modification is ignored.
+  @Override
+  public Object get(ListHandle list, int index, ListCursor cursor) throws InvalidIndexException {
+    if (index < 0 || index >= list.size) throw new InvalidIndexException();
+
+    ListNode node;
+    int distance = index - cursor.index;
+    if (cursor.node != null && cursor.modCount == list.modCount
+        && Math.abs(distance) < Math.min(index, list.size - 1 - index)) {
+      node = cursor.node;
+      for (; distance < 0; distance++) {
+        node = node.previous;
+      }
+      for (; distance > 0; distance--) {
+        node = node.next;
+      }
+    } else {
+      node = nodeAt(list, index);
+    }
+
+    cursor.node = node;
+    cursor.index = index;
+    cursor.modCount = list.modCount;
+    return node.element;
+  }
+
+  // Lists of different cached sizes or content hashes are rejected without walking either of them
+  @Override
+  public boolean equals(ListHandle list1, ListHandle list2) {
+    if (list1.size != list2.size) return false;
+    if (list1.hashTracked && list2.hashTracked && list1.contentHash != list2.contentHash) return false;
+    return manipulator.equals(list1.head, list2.head);
+  }
+
+  // An indexed list has duplicates exactly when it holds fewer distinct elements than nodes
+  @Override
+  public boolean containsDuplicates(ListHandle list) {
+    if (list.index != null) return list.index.distinct() < list.size;
+    return manipulator.containsDuplicates(list.head);
+  }
+
+  // Add node to start of list, which also makes it the tail if the list was empty
+  @Override
+  public ListHandle addHead(ListHandle list, ListNode node) {
+    if (isEmpty(list)) {
+      node.next = node;
+      node.previous = node;
+      list.tail = node;
+    } else {
+      manipulator.addHead(list.head, node);
+    }
+
+    list.head = node;
+    list.size++;
+    list.modCount++;
+    if (list.hashTracked) list.contentHash += Objects.hashCode(node.element);
+    if (list.index != null) list.index.add(node);
+    return list;
+  }
+
+  // Moves the nodes of the second list onto the end of the first, leaving the second handle empty.
+  // The first list's content hash stays tracked only if the second list's hash was tracked too. If the
+  // first list is indexed, the second list's nodes are added to its index one by one.
+  @Override
+  public ListHandle append(ListHandle list1, ListHandle list2) {
+    if (list1 == list2 || isEmpty(list2)) return list1;
+
+    if (list1.index != null) {
+      ListNode currentNode = list2.head;
+      for (int i = 0; i < list2.size; i++) {
+        list1.index.add(currentNode);
+        currentNode = currentNode.next;
+      }
+    }
+    if (list2.index != null) list2.index.clear();
+
+    list1.head = manipulator.append(list1.head, list2.head);
+    list1.tail = list2.tail;
+    list1.size += list2.size;
+    list1.modCount++;
+    list1.hashTracked = list1.hashTracked && list2.hashTracked;
+    list1.contentHash += list2.contentHash;
+
+    list2.head = null;
+    list2.tail = null;
+    list2.size = 0;
+    list2.modCount++;
+    list2.contentHash = 0;
+    return list1;
+  }
+
+  // Inserts a node at index n, linking it directly after the node at index n - 1
+  @Override
+  public ListHandle insert(ListHandle list, ListNode node, int n) throws InvalidIndexException {
+    if (n < 0 || n > list.size) throw new InvalidIndexException();
+    if (n == 0) return addHead(list, node);
+
+    ListNode previousNode = nodeAt(list, n - 1);
+    linkAfter(previousNode, node);
+    if (previousNode == list.tail) list.tail = node;
+
+    list.size++;
+    list.modCount++;
+    if (list.hashTracked) list.contentHash += Objects.hashCode(node.element);
+    if (list.index != null) list.index.add(node);
+    return list;
+  }
+
+  // Deletes the first occurrence of an element, unlinking the node found by a single walk. An indexed
+  // list skips the walk if the element is missing or held by a single node. null never matches, with or
+  // without an index.
+  @Override
+  public ListHandle delete(ListHandle list, Object elem) {
+    if (list.index != null) {
+      if (elem == null || !list.index.contains(elem)) return list;
+      ListNode only = list.index.only(elem);
+      if (only != null) {
+        unlink(list, only);
+        return list;
+      }
+    }
+
+    ListNode currentNode = list.head;
+    for (int i = 0; i < list.size; i++) {
+      if (currentNode.element.equals(elem)) {
+        unlink(list, currentNode);
+        return list;
+      }
+      currentNode = currentNode.next;
+    }
+    return list;
+  }
+
+  // Reverses the list; the old tail becomes the head and vice versa
+  @Override
+  public ListHandle reverse(ListHandle list) {
+    if (list.size <= 1) return list;
+
+    ListNode oldHead = list.head;
+    list.head = manipulator.reverse(oldHead);
+    list.tail = oldHead;
+    list.modCount++;
+    return list;
+  }
+
+  // Splits the list before node. The handle keeps the nodes in front of node, and the nodes from node
+  // to the tail are returned in a new handle. The walk to node counts (and hashes) the first part, so
+  // the sizes and content hashes of both parts are known without walking the second part.
+  @Override
+  public ListHandle split(ListHandle list, ListNode node) throws InvalidListException {
+    if (isEmpty(list) || node == null || node == list.head) throw new InvalidListException();
+
+    ListNode currentNode = list.head.next;
+    int firstSize = 1;
+    int firstHash = list.hashTracked ? Objects.hashCode(list.head.element) : 0;
+    while (currentNode != node) {
+      if (currentNode == list.head) throw new InvalidListException();
+      if (list.hashTracked) firstHash += Objects.hashCode(currentNode.element);
+      currentNode = currentNode.next;
+      firstSize++;
+    }
+
+    ListHandle second = new ListHandle();
+    second.head = node;
+    second.tail = list.tail;
+    second.size = list.size - firstSize;
+    second.hashTracked = list.hashTracked;
+    second.contentHash = list.contentHash - firstHash;
+
+    // The first part is moved to an index of its own, leaving the second part's nodes in the original one
+    if (list.index != null) {
+      ElementIndex firstIndex = new ElementIndex();
+      currentNode = list.head;
+      while (currentNode != node) {
+        list.index.remove(currentNode);
+        firstIndex.add(currentNode);
+        currentNode = currentNode.next;
+      }
+      second.index = list.index;
+      list.index = firstIndex;
+    }
+
+    ListNode firstTail = node.previous;
+    firstTail.next = list.head;
+    list.head.previous = firstTail;
+    node.previous = second.tail;
+    second.tail.next = node;
+
+    list.tail = firstTail;
+    list.size = firstSize;
+    list.modCount++;
+    list.contentHash = firstHash;
+    return second;
+  }
+
+  // Transforms every element, rehashing the transformed elements in the same pass if the content hash is tracked.
+  // The elements of an indexed list are indexed again afterwards, as their hash codes may all have changed.
+  @Override
+  public ListHandle map(ListHandle list, IMapTransformation transformation) {
+    if (!list.hashTracked) {
+      manipulator.map(list.head, transformation);
+      if (list.index != null) list.index = new ElementIndex(list.head);
+      return list;
+    }
+
+    int contentHash = 0;
+    ListNode currentNode = list.head;
+    for (int i = 0; i < list.size; i++) {
+      currentNode.element = transformation.transform(currentNode.element);
+      contentHash += Objects.hashCode(currentNode.element);
+      currentNode = currentNode.next;
+    }
+    list.contentHash = contentHash;
+    if (list.index != null) list.index = new ElementIndex(list.head);
+    return list;
+  }
+
+  @Override
+  public Object reduce(ListHandle list, IReduceOperator operator, Object initial) {
+    return manipulator.reduce(list.head, operator, initial);
+  }
+
+  @Override
+  public ListHandle filter(ListHandle list, IFilterCondition condition) {
+    listFilter.filterInPlace(list, condition);
+    return list;
+  }
+
+  // Returns the node at a valid index n, walking from whichever end of the list is closer
+  private ListNode nodeAt(ListHandle list, int n) {
+    ListNode currentNode;
+    if (n <= list.size / 2) {
+      currentNode = list.head;
+      for (int i = 0; i < n; i++) {
+        currentNode = currentNode.next;
+      }
+    } else {
+      currentNode = list.tail;
+      for (int i = list.size - 1; i > n; i--) {
+        currentNode = currentNode.previous;
+      }
+    }
+    return currentNode;
+  }
+
+  // Links node into the list directly after previousNode
+  private void linkAfter(ListNode previousNode, ListNode node) {
+    node.next = previousNode.next;
+    node.previous = previousNode;
+    previousNode.next.previous = node;
+    previousNode.next = node;
+  }
+
+  // Unlinks node from the list, moving the head or tail on if they referred to it
+  private void unlink(ListHandle list, ListNode node) {
+    if (list.size == 1) {
+      list.head = null;
+      list.tail = null;
+    } else {
+      node.previous.next = node.next;
+      node.next.previous = node.previous;
+      if (node == list.head) list.head = node.next;
+      if (node == list.tail) list.tail = node.previous;
+    }
+
+    list.size--;
+    list.modCount++;
+    if (list.hashTracked) list.contentHash -= Objects.hashCode(node.element);
+    if (list.index != null) list.index.remove(node);
+  }
+}
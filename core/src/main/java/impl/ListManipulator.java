@@ -2,18 +2,25 @@ package impl;
 
 import common.InvalidIndexException;
 import common.InvalidListException;
+import common.ListCursor;
 import common.ListNode;
 import interfaces.IFilterCondition;
 import interfaces.IListManipulator;
 import interfaces.IMapTransformation;
 import interfaces.IReduceOperator;
 
-import java.util.ArrayList;
+import java.util.Objects;
 
 /**
  * This class represents the iterative implementation of the IListManipulator interface.
  */
 public class ListManipulator implements IListManipulator {
+  private final ListFilter listFilter = new ListFilter();
+  private final DuplicateDetector duplicateDetector = new DuplicateDetector();
+  private final ListSerializer listSerializer = new ListSerializer();
+  private final ParallelReducer parallelReducer = new ParallelReducer();
+  private final ParallelMapper parallelMapper = new ParallelMapper();
+
   // Returns the size of the Linked List given its head/start node
   @Override
   public int size(ListNode head) {
@@ -75,84 +82,114 @@ public class ListManipulator implements IListManipulator {
   // Prints linked list; equivalent to Arrays.toString() method.
   @Override
   public String convertToString(ListNode head) {
-    if (isEmpty(head)) return ""; // Send empty if linked list is empty
-
-    // Print each element with ',' delimiter
-    ListNode currentNode = head;
-    String result = currentNode.element + "";
-    while (currentNode.next != head) {
-      currentNode = currentNode.next;
-      result += "," + currentNode.element;
-    }
-
-    return result;
+    // Send empty if linked list is empty; otherwise print each element with ',' delimiter
+    return listSerializer.convertToString(head);
   }
 
   // Get nth element from the front, with the first element being the 0th element
   @Override
   public Object getFromFront(ListNode head, int n) throws InvalidIndexException {
-    if (n < 0 || isEmpty(head)) throw new InvalidIndexException();
+    ListNode node = nodeAt(head, n, true);
+    if (node == null) throw new InvalidIndexException();
+    return node.element;
+  }
 
-    ListNode currentNode = head;
-    while (currentNode.next != head && n > 0) {
-      currentNode = currentNode.next;
-      n--;
+  // Get nth element from the back, with the tail being the 0th element
+  @Override
+  public Object getFromBack(ListNode head, int n) throws InvalidIndexException {
+    ListNode node = nodeAt(head, n, false);
+    if (node == null) throw new InvalidIndexException();
+    return node.element;
+  }
+
+  // Get the element at an index, resuming from the node the cursor was left at by an earlier call if
+  // that is closer than the head. The cursor is moved to the node returned, so accessing indices in
+  // order takes one step per call. A cursor must not be reused after the list is structurally modified.
+  public Object get(ListNode head, int index, ListCursor cursor) throws InvalidIndexException {
+    if (index < 0 || isEmpty(head)) throw new InvalidIndexException();
+
+    ListNode node;
+    int distance = index - cursor.index;
+    if (cursor.node != null && Math.abs(distance) < index) {
+      node = cursor.node;
+      for (; distance < 0; distance++) {
+        node = node.previous;
+      }
+      for (; distance > 0 && node != null; distance--) {
+        // Walking forward past the tail means the index is beyond the end of the list
+        node = node.next == head ? null : node.next;
+      }
+    } else {
+      node = nodeAt(head, index, true);
     }
+    if (node == null) throw new InvalidIndexException();
 
-    // If list has less than n elements, throw exception
-    // Otherwise, return current element (which points to nth element)
-    if (n != 0) throw new InvalidIndexException();
-    return currentNode.element;
+    cursor.node = node;
+    cursor.index = index;
+    return node.element;
   }
 
-  // Get nth element from back, achieved using getFromFront() method
-  @Override
-  public Object getFromBack(ListNode head, int n) throws InvalidIndexException {
-    return getFromFront(head, size(head) - n - 1);
+  // Returns the node n positions from the head (or from the tail, if fromFront is false), or null if
+  // there is no such node. The size of the list is not known in advance, so the list is walked inwards
+  // from both ends at once until either the node is reached or the two walks meet. The walks follow
+  // independent chains of links, so each step costs about as much as a single walk would.
+  private ListNode nodeAt(ListNode head, int n, boolean fromFront) {
+    if (n < 0 || isEmpty(head)) return null;
+
+    // near is n positions from the chosen end; far is farSteps positions from the other end
+    ListNode near = fromFront ? head : head.previous;
+    ListNode far = fromFront ? head.previous : head;
+    int nearSteps = 0;
+    int farSteps = 0;
+    while (nearSteps != n) {
+      ListNode nearNext = fromFront ? near.next : near.previous;
+      if (near == far || nearNext == far) {
+        // The walks have met, so the size is known and the node lies between far and the other end
+        int size = nearSteps + farSteps + (near == far ? 1 : 2);
+        if (n >= size) return null;
+
+        // Walk to it from far or from the other end, whichever is closer
+        int fromFar = n - (size - 1 - farSteps);
+        int fromOtherEnd = size - 1 - n;
+        ListNode node = fromFar <= fromOtherEnd ? far : (fromFront ? head.previous : head);
+        boolean towardsFront = fromFar <= fromOtherEnd != fromFront;
+        for (int i = Math.min(fromFar, fromOtherEnd); i > 0; i--) {
+          node = towardsFront ? node.previous : node.next;
+        }
+        return node;
+      }
+      near = nearNext;
+      far = fromFront ? far.previous : far.next;
+      nearSteps++;
+      farSteps++;
+    }
+    return near;
   }
 
   // Returns whether two lists are identical (same elements in same order)
   @Override
   public boolean equals(ListNode firstNode, ListNode secondNode) {
-    // Return true if both lists are empty;
-    //        false if lists have different size;
-    if (firstNode == null && secondNode == null) return true;
-    if (size(firstNode) != size(secondNode)) return false;
-
-    // Check if nth element in list are equal
-    // This implementation may be slightly less computationally efficient as it
-    // uses the getFromFront() method.
-    try {
-      for (int i = 0; i < size(firstNode); i++) {
-        if (!getFromFront(firstNode, i).equals(getFromFront(secondNode, i))) {
-          return false;
-        }
-      }
-    } catch (InvalidIndexException e) {
-      // Should never throw exception as index is constrained to valid range
-      return false;
-    }
+    // Return true if both lists are empty; false if only one of them is
+    if (firstNode == null || secondNode == null) return firstNode == secondNode;
+
+    // Walk both lists in lockstep, stopping at the first pair of unequal elements
+    ListNode firstCurrent = firstNode;
+    ListNode secondCurrent = secondNode;
+    do {
+      if (!Objects.equals(firstCurrent.element, secondCurrent.element)) return false;
+      firstCurrent = firstCurrent.next;
+      secondCurrent = secondCurrent.next;
+    } while (firstCurrent != firstNode && secondCurrent != secondNode);
 
-    return true;
+    // The lists have equal length only if both walks arrived back at their heads together
+    return firstCurrent == firstNode && secondCurrent == secondNode;
   }
 
   // Returns whether list contains duplicates
   @Override
   public boolean containsDuplicates(ListNode head) {
-    // If the list is empty, then there are no duplicates.
-    if (head == null) return false;
-
-    // Store a list of previous items in ArrayList
-    // Return true if an element has already been added, and it occurs again in list
-    ArrayList<Object> uniqueItems = new ArrayList<>();
-    ListNode currentNode = head;
-    do {
-      if (uniqueItems.contains(currentNode.element)) return true;
-      uniqueItems.add(currentNode.element);
-      currentNode = currentNode.next;
-    } while (currentNode != head);
-
-    return false;
+    // Track the elements seen so far in a hash set, stopping at the first repeat
+    return duplicateDetector.containsDuplicates(head);
   }
 
   // Add node to start of linked list
@@ -192,23 +229,19 @@ public class ListManipulator implements IListManipulator {
 
   // Inserts a node to index n in the linked list
   public ListNode insert(ListNode head, ListNode node, int n) throws InvalidIndexException {
-    // Reject invalid index (negative or larger than list size)
-    // If n = 0, simply call addHead, if n == size of list, then simply call append
-    if (n < 0 || n > size(head)) throw new InvalidIndexException();
+    // If n = 0, simply call addHead
     if (n == 0) return addHead(head, node);
-    if (n == size(head)) return append(head, node);
 
-    // Otherwise, find the node before the index position we are inserting new node to
-    ListNode currentNode = head;
-    while (n != 1) {
-      currentNode = currentNode.next;
-      n--;
-    }
+    // Otherwise, find the node before the index position we are inserting new node to,
+    // rejecting invalid indices (negative or larger than list size)
+    ListNode previousNode = nodeAt(head, n - 1, true);
+    if (previousNode == null) throw new InvalidIndexException();
 
-    // Modify the next and previous pointers to add node between currentNode and currentNode.next
-    node.next = currentNode.next;
-    node.previous = currentNode;
-    currentNode.next = node;
+    // Modify the next and previous pointers to add node between previousNode and previousNode.next
+    node.next = previousNode.next;
+    node.previous = previousNode;
+    previousNode.next.previous = node;
+    previousNode.next = node;
 
     return head;
   }
@@ -248,7 +281,7 @@ public class ListManipulator implements IListManipulator {
   @Override
   public ListNode reverse(ListNode head) {
     // If list is empty or has length of 1, simply return unmodified list.
-    if (isEmpty(head) || size(head) == 1) return head;
+    if (isEmpty(head) || head.next == head) return head;
 
     // Make new head the tail node
     ListNode newHead = head.previous;
@@ -319,6 +352,12 @@ public class ListManipulator implements IListManipulator {
     return head;
   }
 
+  // Same as map, but segments of the list are transformed concurrently on the common ForkJoinPool.
+  // The transformation must be safe to call from several threads at once.
+  public ListNode parallelMap(ListNode head, IMapTransformation transformation) {
+    return parallelMapper.map(head, transformation);
+  }
+
   // Perform a reduce/aggregation function, like in JS.
   // Essentially, an operation is performed that aggregates element values.
   @Override
@@ -335,27 +374,22 @@ public class ListManipulator implements IListManipulator {
     return result;
   }
 
+  // Same as reduce, but segments of the list are reduced in parallel on the common ForkJoinPool. The
+  // operator must be associative and identity must be an identity element of it (e.g. 0 for addition).
+  public Object parallelReduce(ListNode head, IReduceOperator operator, Object identity) {
+    return parallelReducer.reduce(head, operator, identity);
+  }
+
+  // Returns a lazy pipeline over the list, which runs chained map, filter and reduce stages in a single
+  // walk without modifying the list
+  public ListPipeline pipeline(ListNode head) {
+    return ListPipeline.of(head);
+  }
+
   // Perform filter operation, in which nodes whose values do not satisfy a
-  // condition are removed using the delete() method.
+  // condition are unlinked from the list in a single pass.
   @Override
   public ListNode filter(ListNode head, IFilterCondition condition) {
-    if (head == null) return null;
-
-    // Start at tail and loop backwards to reduce awkward list iteration
-    // in a continually modified list (avoid things like ConcurrentModificationException).
-    ListNode currentNode = head.previous;
-    do {
-      if (!condition.isSatisfied(currentNode.element)) {
-        if (size(head) == 1) {
-          return null;
-        }
-        head = delete(head, currentNode.element);
-      }
-      currentNode = currentNode.previous;
-    } while (currentNode != head || !condition.isSatisfied(currentNode.element));
-    // Note loop stops at head, we check the case in which the head node
-    // needs to be removed in the second conditional clause.
-
-    return head;
+    return listFilter.filterInPlace(head, condition);
   }
 }
@@ -0,0 +1,153 @@
+package impl;
+
+import common.ListNode;
+import interfaces.IFilterCondition;
+import interfaces.IMapTransformation;
+import interfaces.IReduceOperator;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * This class represents a lazy pipeline of map, filter and limit stages over the elements of a circular doubly
+ * linked list. Stages are only recorded when they are added; each terminal operation then runs every stage for one
+ * element before moving on to the next, so the whole pipeline takes a single walk of the list. The list itself is
+ * never modified and no nodes are created except by toListNodes. anyMatch, findFirst and limit stop the walk as
+ * soon as their result is known. Pipelines are immutable, so a pipeline can be extended or run more than once.
+ */
+public class ListPipeline {
+  private final ListNode head;
+  private final Stage[] stages;
+
+  private ListPipeline(ListNode head, Stage[] stages) {
+    this.head = head;
+    this.stages = stages;
+  }
+
+  // Returns a pipeline with no stages over the list starting at head
+  public static ListPipeline of(ListNode head) {
+    return new ListPipeline(head, new Stage[0]);
+  }
+
+  public ListPipeline map(IMapTransformation transformation) {
+    return then(new Stage(transformation, null, 0));
+  }
+
+  public ListPipeline filter(IFilterCondition condition) {
+    return then(new Stage(null, condition, 0));
+  }
+
+  // Only lets the first maxSize elements reaching this stage through
+  public ListPipeline limit(long maxSize) {
+    if (maxSize < 0) throw new IllegalArgumentException("maxSize must not be negative");
+    return then(new Stage(null, null, maxSize));
+  }
+
+  public Object reduce(IReduceOperator operator, Object initial) {
+    Object[] result = {initial};
+    walk(element -> {
+      result[0] = operator.operate(result[0], element);
+      return true;
+    });
+    return result[0];
+  }
+
+  public boolean anyMatch(IFilterCondition condition) {
+    boolean[] found = {false};
+    walk(element -> !(found[0] = condition.isSatisfied(element)));
+    return found[0];
+  }
+
+  // Returns the first element coming out of the pipeline; a null element is returned as an empty Optional
+  public Optional<Object> findFirst() {
+    Object[] first = {null};
+    walk(element -> {
+      first[0] = element;
+      return false;
+    });
+    return Optional.ofNullable(first[0]);
+  }
+
+  public long count() {
+    long[] count = {0};
+    walk(element -> {
+      count[0]++;
+      return true;
+    });
+    return count[0];
+  }
+
+  // Collects the elements coming out of the pipeline into a new list, returning its head (null if empty)
+  public ListNode toListNodes() {
+    ListNode[] newHead = {null};
+    walk(element -> {
+      ListNode node = new ListNode(element);
+      ListNode first = newHead[0];
+      if (first == null) {
+        node.next = node;
+        node.previous = node;
+        newHead[0] = node;
+      } else {
+        node.previous = first.previous;
+        node.next = first;
+        first.previous.next = node;
+        first.previous = node;
+      }
+      return true;
+    });
+    return newHead[0];
+  }
+
+  private ListPipeline then(Stage stage) {
+    Stage[] extended = Arrays.copyOf(stages, stages.length + 1);
+    extended[stages.length] = stage;
+    return new ListPipeline(head, extended);
+  }
+
+  // Runs every stage on each element in turn, handing the elements that come out of the last stage to the
+  // sink, until the list ends, the sink returns false or a limit is used up
+  private void walk(Sink sink) {
+    if (head == null) return;
+
+    long[] passed = new long[stages.length];
+    ListNode currentNode = head;
+    do {
+      Object element = currentNode.element;
+      boolean kept = true;
+      boolean lastElement = false;
+      for (int i = 0; i < stages.length && kept; i++) {
+        Stage stage = stages[i];
+        if (stage.transformation != null) {
+          element = stage.transformation.transform(element);
+        } else if (stage.condition != null) {
+          kept = stage.condition.isSatisfied(element);
+        } else {
+          if (passed[i] == stage.limit) return;
+          if (++passed[i] == stage.limit) lastElement = true;
+        }
+      }
+      if (kept && !sink.accept(element)) return;
+      if (lastElement) return;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+  }
+
+  // A single map, filter or limit stage; exactly one of transformation and condition is set, or neither
+  // for a limit stage
+  private static final class Stage {
+    private final IMapTransformation transformation;
+    private final IFilterCondition condition;
+    private final long limit;
+
+    private Stage(IMapTransformation transformation, IFilterCondition condition, long limit) {
+      this.transformation = transformation;
+      this.condition = condition;
+      this.limit = limit;
+    }
+  }
+
+  // Receives the elements coming out of the pipeline, returning false to stop the walk
+  private interface Sink {
+    boolean accept(Object element);
+  }
+}
@@ -0,0 +1,88 @@
+package impl;
+
+import common.ListNode;
+import common.ListSegment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class cuts a circular doubly linked list into segments of consecutive nodes in a single walk, so that the
+ * segments can then be processed independently, e.g. on different threads.
+ */
+public class ListSegmenter {
+  // The most waypoints balancedSegments keeps per segment while walking a list of unknown size
+  private static final int STARTS_PER_SEGMENT = 16;
+
+  // Returns the segments of the list in order, each segmentLength nodes long apart from the last, which
+  // may be shorter. Returns no segments if the list is empty.
+  public List<ListSegment> segments(ListNode head, int segmentLength) {
+    if (segmentLength < 1) throw new IllegalArgumentException("segmentLength must be positive");
+
+    List<ListSegment> segments = new ArrayList<>();
+    if (head == null) return segments;
+
+    ListNode start = head;
+    ListNode currentNode = head;
+    int length = 0;
+    do {
+      if (length == segmentLength) {
+        segments.add(new ListSegment(start, length));
+        start = currentNode;
+        length = 0;
+      }
+      length++;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    segments.add(new ListSegment(start, length));
+    return segments;
+  }
+
+  // Returns count segments of the list in order, whose lengths differ by at most one, or fewer segments
+  // if the list has fewer than count nodes. The list is walked once to find its size, keeping every
+  // stride-th node as a waypoint; whenever STARTS_PER_SEGMENT * count have been kept, every other one
+  // is dropped and the stride doubled. Each segment boundary is then reached from the waypoint before
+  // it, which is less than one stride away.
+  public List<ListSegment> balancedSegments(ListNode head, int count) {
+    if (count < 1) throw new IllegalArgumentException("count must be positive");
+
+    List<ListSegment> segments = new ArrayList<>();
+    if (head == null) return segments;
+
+    int limit = STARTS_PER_SEGMENT * count;
+    List<ListNode> waypoints = new ArrayList<>();
+    int stride = 1;
+    int size = 0;
+    ListNode currentNode = head;
+    do {
+      if (size % stride == 0) {
+        // limit is even, so size is a multiple of the doubled stride too
+        if (waypoints.size() == limit) {
+          for (int i = 0; i < limit / 2; i++) {
+            waypoints.set(i, waypoints.get(2 * i));
+          }
+          waypoints.subList(limit / 2, limit).clear();
+          stride *= 2;
+        }
+        waypoints.add(currentNode);
+      }
+      size++;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+
+    // Waypoint i is the node at index i * stride
+    int parts = Math.min(count, size);
+    int cut = 0;
+    for (int i = 0; i < parts; i++) {
+      // The first size % parts segments take one of the leftover nodes each
+      int length = size / parts + (i < size % parts ? 1 : 0);
+      ListNode start = waypoints.get(cut / stride);
+      for (int j = 0; j < cut % stride; j++) {
+        start = start.next;
+      }
+      segments.add(new ListSegment(start, length));
+      cut += length;
+    }
+    return segments;
+  }
+}
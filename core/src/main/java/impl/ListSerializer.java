@@ -0,0 +1,72 @@
+package impl;
+
+import common.ListNode;
+
+import java.io.IOException;
+
+/**
+ * This class writes the elements of a circular doubly linked list as text in linear time, either into a string or
+ * streamed into an Appendable such as a java.io.Writer.
+ */
+public class ListSerializer {
+  private static final String DEFAULT_SEPARATOR = ",";
+  private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+
+  private final String separator;
+  private final int bufferCapacity;
+
+  public ListSerializer() {
+    this(DEFAULT_SEPARATOR, DEFAULT_BUFFER_CAPACITY);
+  }
+
+  public ListSerializer(String separator) {
+    this(separator, DEFAULT_BUFFER_CAPACITY);
+  }
+
+  // bufferCapacity is the number of characters collected before each write when streaming
+  public ListSerializer(String separator, int bufferCapacity) {
+    this.separator = separator;
+    this.bufferCapacity = bufferCapacity;
+  }
+
+  // Returns the elements of the list separated by the separator, or "" if the list is empty
+  public String convertToString(ListNode head) {
+    StringBuilder result = new StringBuilder();
+    appendElements(head, result, Integer.MAX_VALUE);
+    return result.toString();
+  }
+
+  // Writes the elements of the list separated by the separator to out. Output is collected in a buffer
+  // of bufferCapacity characters and handed to out a buffer at a time, so the whole string is never held
+  // in memory. out is not flushed or closed.
+  public void write(ListNode head, Appendable out) throws IOException {
+    if (out instanceof StringBuilder) {
+      appendElements(head, (StringBuilder) out, Integer.MAX_VALUE);
+      return;
+    }
+
+    StringBuilder buffer = new StringBuilder(bufferCapacity);
+    ListNode currentNode = head;
+    while (currentNode != null) {
+      currentNode = appendElements(currentNode, head, buffer, bufferCapacity);
+      out.append(buffer);
+      buffer.setLength(0);
+    }
+  }
+
+  private void appendElements(ListNode head, StringBuilder buffer, int limit) {
+    if (head != null) appendElements(head, head, buffer, limit);
+  }
+
+  // Appends elements from currentNode until the end of the list or until the buffer holds at least limit
+  // characters, returning the node to continue from (or null once the whole list has been written)
+  private ListNode appendElements(ListNode currentNode, ListNode head, StringBuilder buffer, int limit) {
+    do {
+      if (currentNode != head) buffer.append(separator);
+      buffer.append(currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head && buffer.length() < limit);
+
+    return currentNode == head ? null : currentNode;
+  }
+}
@@ -0,0 +1,112 @@
+package impl;
+
+import common.ListNode;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * This class represents a Spliterator over the elements of a circular doubly linked list, from the head to the
+ * tail. If the size of the list is known up front, the spliterator is SIZED and SUBSIZED; otherwise the remaining
+ * nodes are counted the first time it is split. trySplit bisects the remaining nodes by walking to the middle one.
+ * The list must not be structurally modified while the spliterator is in use.
+ */
+public class ListSpliterator implements Spliterator<Object> {
+  private static final long UNKNOWN = -1;
+
+  // The next node to visit, or null once every node has been visited
+  private ListNode current;
+  // The node at which the walk stops when the number of remaining nodes is not known
+  private final ListNode end;
+  private long remaining;
+
+  // A spliterator over the list starting at head, whose size is not known
+  public ListSpliterator(ListNode head) {
+    this(head, head, head == null ? 0 : UNKNOWN);
+  }
+
+  // A spliterator over the list starting at head, which holds size nodes
+  public ListSpliterator(ListNode head, int size) {
+    this(head, head, size);
+  }
+
+  private ListSpliterator(ListNode start, ListNode end, long remaining) {
+    this.current = remaining == 0 ? null : start;
+    this.end = end;
+    this.remaining = remaining;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Object> action) {
+    if (current == null) return false;
+
+    ListNode node = current;
+    advance();
+    action.accept(node.element);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super Object> action) {
+    while (current != null) {
+      ListNode node = current;
+      advance();
+      action.accept(node.element);
+    }
+  }
+
+  // Splits off the first half of the remaining nodes, or returns null if fewer than two nodes remain
+  @Override
+  public Spliterator<Object> trySplit() {
+    if (current == null) return null;
+    if (remaining == UNKNOWN) remaining = countRemaining();
+    if (remaining < 2) return null;
+
+    long half = remaining / 2;
+    ListNode middle = current;
+    for (long i = 0; i < half; i++) {
+      middle = middle.next;
+    }
+    Spliterator<Object> prefix = new ListSpliterator(current, end, half);
+    current = middle;
+    remaining -= half;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    if (current == null) return 0;
+    return remaining == UNKNOWN ? Long.MAX_VALUE : remaining;
+  }
+
+  @Override
+  public long getExactSizeIfKnown() {
+    return current != null && remaining == UNKNOWN ? -1 : estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return remaining == UNKNOWN ? ORDERED : ORDERED | SIZED | SUBSIZED;
+  }
+
+  private void advance() {
+    if (remaining == UNKNOWN) {
+      current = current.next;
+      if (current == end) current = null;
+    } else if (--remaining == 0) {
+      current = null;
+    } else {
+      current = current.next;
+    }
+  }
+
+  private long countRemaining() {
+    long count = 0;
+    ListNode node = current;
+    do {
+      count++;
+      node = node.next;
+    } while (node != end);
+    return count;
+  }
+}
@@ -0,0 +1,34 @@
+package impl;
+
+import common.ListHandle;
+import common.ListNode;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class creates java.util.stream streams over the elements of circular doubly linked lists, in list order,
+ * without copying the list. The streams read the nodes lazily, so the list must not be structurally modified until
+ * the stream's terminal operation has finished.
+ */
+public final class ListStreams {
+  private ListStreams() {
+  }
+
+  public static Stream<Object> stream(ListNode head) {
+    return StreamSupport.stream(new ListSpliterator(head), false);
+  }
+
+  public static Stream<Object> parallelStream(ListNode head) {
+    return StreamSupport.stream(new ListSpliterator(head), true);
+  }
+
+  // The stream is SIZED, as the size is taken from the handle rather than counted
+  public static Stream<Object> stream(ListHandle list) {
+    return StreamSupport.stream(new ListSpliterator(list.head, list.size), false);
+  }
+
+  public static Stream<Object> parallelStream(ListHandle list) {
+    return StreamSupport.stream(new ListSpliterator(list.head, list.size), true);
+  }
+}
@@ -0,0 +1,210 @@
+package impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class represents a lock-free double-ended queue, for use as a work queue shared by several producer and
+ * consumer threads. It follows Michael's CAS-based deque: the head node, the tail node and a status are held
+ * together in one immutable anchor that is replaced by compare-and-set, so each operation takes effect with a single
+ * CAS. A push first swings the anchor to the new node with a PUSH status, and the new node's neighbour is then linked
+ * back to it by a CAS on the neighbour's link; any thread that finds an unfinished push completes it before going on,
+ * so no thread ever waits for another. Elements must not be null.
+ * As every operation updates the same anchor, operations at the two ends still contend with each other.
+ */
+public class LockFreeDeque implements Iterable<Object> {
+  private static final int STABLE = 0;
+  private static final int PUSH_HEAD = 1;
+  private static final int PUSH_TAIL = 2;
+
+  private static final Anchor EMPTY = new Anchor(null, null, STABLE);
+
+  private static final VarHandle PREVIOUS;
+  private static final VarHandle NEXT;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      PREVIOUS = lookup.findVarHandle(Node.class, "previous", Node.class);
+      NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final AtomicReference<Anchor> anchor = new AtomicReference<>(EMPTY);
+
+  // Returns whether the deque was empty at the moment it was checked
+  public boolean isEmpty() {
+    return anchor.get().head == null;
+  }
+
+  public void addHead(Object element) {
+    Node node = new Node(Objects.requireNonNull(element));
+    while (true) {
+      Anchor current = anchor.get();
+      if (current.head == null) {
+        if (anchor.compareAndSet(current, new Anchor(node, node, STABLE))) return;
+      } else if (current.status == STABLE) {
+        node.next = current.head;
+        Anchor pushed = new Anchor(node, current.tail, PUSH_HEAD);
+        if (anchor.compareAndSet(current, pushed)) {
+          stabilizeHead(pushed);
+          return;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  public void append(Object element) {
+    Node node = new Node(Objects.requireNonNull(element));
+    while (true) {
+      Anchor current = anchor.get();
+      if (current.tail == null) {
+        if (anchor.compareAndSet(current, new Anchor(node, node, STABLE))) return;
+      } else if (current.status == STABLE) {
+        node.previous = current.tail;
+        Anchor pushed = new Anchor(current.head, node, PUSH_TAIL);
+        if (anchor.compareAndSet(current, pushed)) {
+          stabilizeTail(pushed);
+          return;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  // Removes and returns the first element, or returns null if the deque is empty
+  public Object pollHead() {
+    while (true) {
+      Anchor current = anchor.get();
+      if (current.head == null) return null;
+
+      if (current.head == current.tail) {
+        if (anchor.compareAndSet(current, EMPTY)) return current.head.element;
+      } else if (current.status == STABLE) {
+        Node next = current.head.next;
+        if (anchor.compareAndSet(current, new Anchor(next, current.tail, STABLE))) {
+          // Drop the new head's link to the removed node, unless a push has already replaced it
+          PREVIOUS.compareAndSet(next, current.head, null);
+          return current.head.element;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  // Removes and returns the last element, or returns null if the deque is empty
+  public Object pollTail() {
+    while (true) {
+      Anchor current = anchor.get();
+      if (current.tail == null) return null;
+
+      if (current.head == current.tail) {
+        if (anchor.compareAndSet(current, EMPTY)) return current.tail.element;
+      } else if (current.status == STABLE) {
+        Node previous = current.tail.previous;
+        if (anchor.compareAndSet(current, new Anchor(current.head, previous, STABLE))) {
+          NEXT.compareAndSet(previous, current.tail, null);
+          return current.tail.element;
+        }
+      } else {
+        stabilize(current);
+      }
+    }
+  }
+
+  // Returns a weakly consistent iterator from head to tail. It holds the elements present when it was created
+  // that have not been removed by the time it reaches them, and it may or may not see later changes. It never
+  // throws ConcurrentModificationException.
+  @Override
+  public Iterator<Object> iterator() {
+    Anchor current = anchor.get();
+    while (current.status != STABLE) {
+      stabilize(current);
+      current = anchor.get();
+    }
+    Node first = current.head;
+    Node last = current.tail;
+
+    return new Iterator<Object>() {
+      private Node nextNode = first;
+
+      @Override
+      public boolean hasNext() {
+        return nextNode != null;
+      }
+
+      @Override
+      public Object next() {
+        if (nextNode == null) throw new NoSuchElementException();
+        Object element = nextNode.element;
+        nextNode = nextNode == last ? null : nextNode.next;
+        return element;
+      }
+    };
+  }
+
+  private void stabilize(Anchor current) {
+    if (current.status == PUSH_TAIL) {
+      stabilizeTail(current);
+    } else {
+      stabilizeHead(current);
+    }
+  }
+
+  // Links the node after the pushed head back to it, then marks the anchor stable
+  private void stabilizeHead(Anchor current) {
+    Node next = current.head.next;
+    if (anchor.get() != current) return;
+    Node nextPrevious = next.previous;
+    if (nextPrevious != current.head) {
+      if (anchor.get() != current) return;
+      if (!PREVIOUS.compareAndSet(next, nextPrevious, current.head)) return;
+    }
+    anchor.compareAndSet(current, new Anchor(current.head, current.tail, STABLE));
+  }
+
+  // Links the node before the pushed tail forward to it, then marks the anchor stable
+  private void stabilizeTail(Anchor current) {
+    Node previous = current.tail.previous;
+    if (anchor.get() != current) return;
+    Node previousNext = previous.next;
+    if (previousNext != current.tail) {
+      if (anchor.get() != current) return;
+      if (!NEXT.compareAndSet(previous, previousNext, current.tail)) return;
+    }
+    anchor.compareAndSet(current, new Anchor(current.head, current.tail, STABLE));
+  }
+
+  private static final class Node {
+    private final Object element;
+    private volatile Node previous;
+    private volatile Node next;
+
+    private Node(Object element) {
+      this.element = element;
+    }
+  }
+
+  // The ends of the deque and whether a push at one of them is still being linked in
+  private static final class Anchor {
+    private final Node head;
+    private final Node tail;
+    private final int status;
+
+    private Anchor(Node head, Node tail, int status) {
+      this.head = head;
+      this.tail = tail;
+      this.status = status;
+    }
+  }
+}
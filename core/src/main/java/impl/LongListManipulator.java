@@ -0,0 +1,172 @@
+package impl;
+
+import common.InvalidIndexException;
+import common.LongListNode;
+import interfaces.ILongFilterCondition;
+import interfaces.ILongMapTransformation;
+import interfaces.ILongReduceOperator;
+
+/**
+ * This class represents the iterative implementation of the list operations for circular doubly linked lists of
+ * long values. Elements are never boxed, so map, reduce, filter, count and contains do not allocate.
+ */
+public class LongListManipulator {
+  // Returns the size of the list given its head node
+  public int size(LongListNode head) {
+    if (isEmpty(head)) return 0;
+
+    LongListNode currentNode = head;
+    int count = 1;
+    while (currentNode.next != head) {
+      currentNode = currentNode.next;
+      count++;
+    }
+    return count;
+  }
+
+  // Returns whether the list is empty (head is null)
+  public boolean isEmpty(LongListNode head) {
+    return head == null;
+  }
+
+  // Returns whether list contains element
+  public boolean contains(LongListNode head, long element) {
+    if (isEmpty(head)) return false;
+
+    LongListNode currentNode = head;
+    do {
+      if (currentNode.element == element) return true;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return false;
+  }
+
+  // Returns number of element occurrences in the list
+  public int count(LongListNode head, long element) {
+    if (isEmpty(head)) return 0;
+
+    LongListNode currentNode = head;
+    int count = 0;
+    do {
+      if (currentNode.element == element) count++;
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return count;
+  }
+
+  // Prints the list with ',' delimiter
+  public String convertToString(LongListNode head) {
+    if (isEmpty(head)) return "";
+
+    StringBuilder result = new StringBuilder();
+    LongListNode currentNode = head;
+    do {
+      if (currentNode != head) result.append(',');
+      result.append(currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return result.toString();
+  }
+
+  // Get nth element from the front, with the first element being the 0th element
+  public long getFromFront(LongListNode head, int n) throws InvalidIndexException {
+    if (n < 0 || isEmpty(head)) throw new InvalidIndexException();
+
+    LongListNode currentNode = head;
+    for (; n > 0; n--) {
+      currentNode = currentNode.next;
+      if (currentNode == head) throw new InvalidIndexException();
+    }
+    return currentNode.element;
+  }
+
+  // Add node to start of the list; head may be null, in which case node becomes a list of one
+  public LongListNode addHead(LongListNode head, LongListNode node) {
+    if (isEmpty(head)) {
+      node.next = node;
+      node.previous = node;
+      return node;
+    }
+
+    LongListNode tail = head.previous;
+    tail.next = node;
+    node.previous = tail;
+    node.next = head;
+    head.previous = node;
+    return node;
+  }
+
+  // Appends list to another
+  public LongListNode append(LongListNode firstListHead, LongListNode secondListHead) {
+    if (isEmpty(firstListHead)) return secondListHead;
+    if (isEmpty(secondListHead)) return firstListHead;
+
+    LongListNode firstTail = firstListHead.previous;
+    LongListNode secondTail = secondListHead.previous;
+    firstTail.next = secondListHead;
+    secondTail.next = firstListHead;
+    secondListHead.previous = firstTail;
+    firstListHead.previous = secondTail;
+    return firstListHead;
+  }
+
+  // Replaces each element with the result of the transformation
+  public LongListNode map(LongListNode head, ILongMapTransformation transformation) {
+    if (isEmpty(head)) return null;
+
+    LongListNode currentNode = head;
+    do {
+      currentNode.element = transformation.transform(currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return head;
+  }
+
+  // Combines the initial value and every element with the operator, e.g. to sum the list or find its minimum
+  public long reduce(LongListNode head, ILongReduceOperator operator, long initial) {
+    long result = initial;
+    if (isEmpty(head)) return result;
+
+    LongListNode currentNode = head;
+    do {
+      result = operator.operate(result, currentNode.element);
+      currentNode = currentNode.next;
+    } while (currentNode != head);
+    return result;
+  }
+
+  // Unlinks every node whose element does not satisfy the condition in a single pass, returning the
+  // head of the remaining list (null if no node survives)
+  public LongListNode filter(LongListNode head, ILongFilterCondition condition) {
+    if (isEmpty(head)) return null;
+
+    LongListNode first = null;
+    LongListNode last = null;
+    LongListNode tail = head.previous;
+    LongListNode currentNode = head;
+    boolean atTail;
+    do {
+      LongListNode nextNode = currentNode.next;
+      atTail = currentNode == tail;
+      if (condition.isSatisfied(currentNode.element)) {
+        if (first == null) {
+          first = currentNode;
+        } else {
+          last.next = currentNode;
+          currentNode.previous = last;
+        }
+        last = currentNode;
+      } else {
+        currentNode.next = currentNode;
+        currentNode.previous = currentNode;
+      }
+      currentNode = nextNode;
+    } while (!atTail);
+
+    if (first != null) {
+      first.previous = last;
+      last.next = first;
+    }
+    return first;
+  }
+}
@@ -0,0 +1,38 @@
+package impl;
+
+import interfaces.IElementCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class represents a list loaded by MappedListFile. Its elements stay in the memory-mapped file and are only
+ * decoded when they are read, so a MappedList of any size is created in constant time. It cannot be modified.
+ * The file is mapped in windows that each hold the same number of elements (except the last), so an element is
+ * found by dividing its index by the window size.
+ */
+public class MappedList {
+  private final ByteBuffer[] windows;
+  private final int windowElements;
+  private final int size;
+  private final IElementCodec codec;
+
+  MappedList(ByteBuffer[] windows, int windowElements, int size, IElementCodec codec) {
+    this.windows = windows;
+    this.windowElements = windowElements;
+    this.size = size;
+    this.codec = codec;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public IElementCodec codec() {
+    return codec;
+  }
+
+  // Decodes the element at index; index is not checked
+  Object element(int index) {
+    return codec.decode(windows[index / windowElements], index % windowElements * codec.width());
+  }
+}
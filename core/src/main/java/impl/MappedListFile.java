@@ -0,0 +1,109 @@
+package impl;
+
+import common.ListNode;
+import interfaces.IElementCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class stores circular doubly linked lists in files and loads them back by memory-mapping the file.
+ * A file holds a header (magic number, format version, codec identifier, element width and element count)
+ * followed by the elements packed back to back, each encoded in the same number of bytes by an IElementCodec.
+ * A single mapping cannot exceed Integer.MAX_VALUE bytes, so the elements are mapped in consecutive windows of at
+ * most that size, each holding a whole number of elements. A file can therefore hold up to Integer.MAX_VALUE
+ * elements (the largest count a list can have) whatever their width.
+ */
+public class MappedListFile {
+  private static final int MAGIC = 0x4C4E4B4C;
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 5 * Integer.BYTES;
+  private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+
+  private final IElementCodec codec;
+  private final int windowElements;
+
+  public MappedListFile(IElementCodec codec) {
+    this(codec, Integer.MAX_VALUE / codec.width());
+  }
+
+  // Maps loaded files in windows of at most windowElements elements each
+  public MappedListFile(IElementCodec codec, int windowElements) {
+    if (windowElements < 1 || windowElements > Integer.MAX_VALUE / codec.width()) {
+      throw new IllegalArgumentException("window must hold between 1 and " + Integer.MAX_VALUE / codec.width()
+          + " elements: " + windowElements);
+    }
+    this.codec = codec;
+    this.windowElements = windowElements;
+  }
+
+  // Writes the list to path, replacing any existing file, in a single walk of the list. Elements are
+  // encoded into a buffer that is written out whenever it fills up. The buffer holds whole elements
+  // only, and at least one even when a codec is wider than the default capacity.
+  public void write(ListNode head, Path path) throws IOException {
+    int width = codec.width();
+    int capacity = Math.max(width, DEFAULT_BUFFER_CAPACITY / width * width);
+    ByteBuffer buffer = ByteBuffer.allocate(Math.max(HEADER_BYTES, capacity));
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      // The element count is not known until the walk is done, so the header is written last
+      channel.position(HEADER_BYTES);
+      int count = 0;
+      if (head != null) {
+        ListNode currentNode = head;
+        do {
+          if (buffer.remaining() < width) writeFully(channel, buffer);
+          codec.encode(buffer, buffer.position(), currentNode.element);
+          buffer.position(buffer.position() + width);
+          count++;
+          currentNode = currentNode.next;
+        } while (currentNode != head);
+      }
+      writeFully(channel, buffer);
+
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(codec.typeId()).putInt(width).putInt(count);
+      channel.position(0);
+      writeFully(channel, buffer);
+    }
+  }
+
+  // Maps the file at path into memory without reading its elements
+  public MappedList load(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long length = channel.size();
+      if (length < HEADER_BYTES) throw new IOException("not a list file: " + path);
+
+      MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+      if (header.getInt(0) != MAGIC) throw new IOException("not a list file: " + path);
+      if (header.getInt(4) != VERSION) throw new IOException("unsupported list file version: " + header.getInt(4));
+      if (header.getInt(8) != codec.typeId() || header.getInt(12) != codec.width()) {
+        throw new IOException("list file was not written with this codec: " + path);
+      }
+      int count = header.getInt(16);
+      if (count < 0 || length != HEADER_BYTES + (long) count * codec.width()) {
+        throw new IOException("list file is truncated or corrupt: " + path);
+      }
+
+      long windowBytes = (long) windowElements * codec.width();
+      ByteBuffer[] windows = new ByteBuffer[(int) ((count + (long) windowElements - 1) / windowElements)];
+      for (int i = 0; i < windows.length; i++) {
+        long start = HEADER_BYTES + i * windowBytes;
+        windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowBytes, length - start));
+      }
+      return new MappedList(windows, windowElements, count, codec);
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
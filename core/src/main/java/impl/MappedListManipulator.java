@@ -0,0 +1,63 @@
+package impl;
+
+import common.InvalidIndexException;
+import common.ListNode;
+import interfaces.IReduceOperator;
+
+import java.util.Objects;
+
+/**
+ * This class represents the read-only list operations on lists loaded by MappedListFile, reading elements directly
+ * from the mapped file. Indexed access takes constant time, as every element is stored at a fixed offset.
+ */
+public class MappedListManipulator {
+  public int size(MappedList list) {
+    return list.size();
+  }
+
+  public boolean isEmpty(MappedList list) {
+    return list.size() == 0;
+  }
+
+  // Get nth element from the front, with the first element being the 0th element
+  public Object getFromFront(MappedList list, int n) throws InvalidIndexException {
+    if (n < 0 || n >= list.size()) throw new InvalidIndexException();
+    return list.element(n);
+  }
+
+  // Returns whether list contains element
+  public boolean contains(MappedList list, Object element) {
+    for (int i = 0; i < list.size(); i++) {
+      if (Objects.equals(list.element(i), element)) return true;
+    }
+    return false;
+  }
+
+  // Combines the initial value and every element with the operator
+  public Object reduce(MappedList list, IReduceOperator operator, Object initial) {
+    Object result = initial;
+    for (int i = 0; i < list.size(); i++) {
+      result = operator.operate(result, list.element(i));
+    }
+    return result;
+  }
+
+  // Decodes every element into a new circular doubly linked list, returning its head (null if the list is empty)
+  public ListNode toListNodes(MappedList list) {
+    ListNode head = null;
+    for (int i = 0; i < list.size(); i++) {
+      ListNode node = new ListNode(list.element(i));
+      if (head == null) {
+        node.next = node;
+        node.previous = node;
+        head = node;
+      } else {
+        node.previous = head.previous;
+        node.next = head;
+        head.previous.next = node;
+        head.previous = node;
+      }
+    }
+    return head;
+  }
+}
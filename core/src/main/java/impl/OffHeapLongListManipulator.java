@@ -0,0 +1,164 @@
+package impl;
+
+import common.InvalidIndexException;
+import common.OffHeapArena;
+import interfaces.ILongMapTransformation;
+import interfaces.ILongReduceOperator;
+
+/**
+ * This class represents the iterative implementation of the list operations for circular doubly linked lists of
+ * long values whose nodes live off the Java heap in an OffHeapArena. Lists are referred to by the slot number of
+ * their head node (OffHeapArena.NIL for an empty list). Every operation throws an IllegalStateException once the
+ * arena has been closed.
+ */
+public class OffHeapLongListManipulator {
+  private final OffHeapArena arena;
+
+  public OffHeapLongListManipulator(OffHeapArena arena) {
+    this.arena = arena;
+  }
+
+  // Allocates a single node holding element in the arena, returning its slot number
+  public int newNode(long element) {
+    return arena.allocate(element);
+  }
+
+  // Returns the size of the list given its head node
+  public int size(int head) {
+    if (isEmpty(head)) return 0;
+
+    int currentNode = head;
+    int count = 1;
+    while (arena.next(currentNode) != head) {
+      currentNode = arena.next(currentNode);
+      count++;
+    }
+    return count;
+  }
+
+  // Returns whether the list is empty (head is NIL)
+  public boolean isEmpty(int head) {
+    return head == OffHeapArena.NIL;
+  }
+
+  // Returns whether list contains element
+  public boolean contains(int head, long element) {
+    if (isEmpty(head)) return false;
+
+    int currentNode = head;
+    do {
+      if (arena.element(currentNode) == element) return true;
+      currentNode = arena.next(currentNode);
+    } while (currentNode != head);
+    return false;
+  }
+
+  // Returns number of element occurrences in the list
+  public int count(int head, long element) {
+    if (isEmpty(head)) return 0;
+
+    int currentNode = head;
+    int count = 0;
+    do {
+      if (arena.element(currentNode) == element) count++;
+      currentNode = arena.next(currentNode);
+    } while (currentNode != head);
+    return count;
+  }
+
+  // Prints the list with ',' delimiter
+  public String convertToString(int head) {
+    if (isEmpty(head)) return "";
+
+    StringBuilder result = new StringBuilder();
+    int currentNode = head;
+    do {
+      if (currentNode != head) result.append(',');
+      result.append(arena.element(currentNode));
+      currentNode = arena.next(currentNode);
+    } while (currentNode != head);
+    return result.toString();
+  }
+
+  // Get nth element from the front, with the first element being the 0th element
+  public long getFromFront(int head, int n) throws InvalidIndexException {
+    if (n < 0 || isEmpty(head)) throw new InvalidIndexException();
+
+    int currentNode = head;
+    for (; n > 0; n--) {
+      currentNode = arena.next(currentNode);
+      if (currentNode == head) throw new InvalidIndexException();
+    }
+    return arena.element(currentNode);
+  }
+
+  // Add node to start of the list; head may be NIL, in which case node becomes a list of one
+  public int addHead(int head, int node) {
+    if (isEmpty(head)) {
+      arena.setNext(node, node);
+      arena.setPrevious(node, node);
+      return node;
+    }
+
+    int tail = arena.previous(head);
+    arena.setNext(tail, node);
+    arena.setPrevious(node, tail);
+    arena.setNext(node, head);
+    arena.setPrevious(head, node);
+    return node;
+  }
+
+  // Appends list to another
+  public int append(int firstListHead, int secondListHead) {
+    if (isEmpty(firstListHead)) return secondListHead;
+    if (isEmpty(secondListHead)) return firstListHead;
+
+    int firstTail = arena.previous(firstListHead);
+    int secondTail = arena.previous(secondListHead);
+    arena.setNext(firstTail, secondListHead);
+    arena.setNext(secondTail, firstListHead);
+    arena.setPrevious(secondListHead, firstTail);
+    arena.setPrevious(firstListHead, secondTail);
+    return firstListHead;
+  }
+
+  // Reverses the list by swapping the links of every node, returning the old tail as the new head
+  public int reverse(int head) {
+    if (isEmpty(head)) return head;
+
+    int newHead = arena.previous(head);
+    int currentNode = head;
+    do {
+      int nextNode = arena.next(currentNode);
+      arena.setNext(currentNode, arena.previous(currentNode));
+      arena.setPrevious(currentNode, nextNode);
+      currentNode = nextNode;
+    } while (currentNode != head);
+    return newHead;
+  }
+
+  // Replaces each element with the result of the transformation
+  public int map(int head, ILongMapTransformation transformation) {
+    if (isEmpty(head)) return head;
+
+    int currentNode = head;
+    do {
+      arena.setElement(currentNode, transformation.transform(arena.element(currentNode)));
+      currentNode = arena.next(currentNode);
+    } while (currentNode != head);
+    return head;
+  }
+
+  // Combines the initial value and every element with the operator, e.g. to sum the list or find its minimum
+  public long reduce(int head, ILongReduceOperator operator, long initial) {
+    long result = initial;
+    if (isEmpty(head)) return result;
+
+    int currentNode = head;
+    do {
+      result = operator.operate(result, arena.element(currentNode));
+      currentNode = arena.next(currentNode);
+    } while (currentNode != head);
+    return result;
+  }
+}
@@ -0,0 +1,82 @@
+package impl;
+
+import common.ListNode;
+import common.ListSegment;
+import interfaces.IMapTransformation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class maps circular doubly linked lists in place on an Executor. The list is cut into balanced segments,
+ * one per unit of parallelism, and the segments are transformed concurrently. Each element is replaced in its own
+ * node, so the order of the list is unchanged. Lists no longer than the threshold are mapped sequentially.
+ * The list must not be modified while it is being mapped, and the transformation must be safe to call from
+ * several threads at once.
+ */
+public class ParallelMapper {
+  private static final int DEFAULT_THRESHOLD = 8192;
+
+  private final Executor executor;
+  private final int parallelism;
+  private final int threshold;
+  private final ListSegmenter listSegmenter = new ListSegmenter();
+
+  public ParallelMapper() {
+    this(ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(), DEFAULT_THRESHOLD);
+  }
+
+  // parallelism is the number of segments the list is cut into, normally the number of threads of executor
+  public ParallelMapper(Executor executor, int parallelism, int threshold) {
+    if (parallelism < 1) throw new IllegalArgumentException("parallelism must be positive");
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.threshold = threshold;
+  }
+
+  // Replaces each element with the result of the transformation, returning the head of the list. If the
+  // transformation throws, the exception is rethrown once every segment has finished, and elements of
+  // other segments may already have been transformed.
+  public ListNode map(ListNode head, IMapTransformation transformation) {
+    if (head == null) return null;
+
+    // The same walk that finds the size of the list also cuts it into segments
+    List<ListSegment> segments = listSegmenter.balancedSegments(head, parallelism);
+    int size = 0;
+    for (ListSegment segment : segments) {
+      size += segment.length;
+    }
+
+    if (size <= threshold || segments.size() == 1) {
+      for (ListSegment segment : segments) {
+        mapSegment(segment, transformation);
+      }
+      return head;
+    }
+
+    List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    for (ListSegment segment : segments) {
+      tasks.add(CompletableFuture.runAsync(() -> mapSegment(segment, transformation), executor));
+    }
+    try {
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      if (e.getCause() instanceof Error) throw (Error) e.getCause();
+      throw e;
+    }
+    return head;
+  }
+
+  private static void mapSegment(ListSegment segment, IMapTransformation transformation) {
+    ListNode currentNode = segment.start;
+    for (int i = 0; i < segment.length; i++) {
+      currentNode.element = transformation.transform(currentNode.element);
+      currentNode = currentNode.next;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package impl;
+
+import common.ListNode;
+import common.ListSegment;
+import interfaces.IReduceOperator;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class reduces circular doubly linked lists on a ForkJoinPool. The list is cut into segments in one walk,
+ * each segment is reduced from the identity element on its own task, and the partial results are combined in list
+ * order. This relies on the operator being associative and on identity being an identity element of the operator,
+ * but not on the operator being commutative. Lists no longer than the threshold are reduced sequentially.
+ * The list must not be modified while it is being reduced.
+ */
+public class ParallelReducer {
+  private static final int DEFAULT_THRESHOLD = 8192;
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+  private final ListSegmenter listSegmenter = new ListSegmenter();
+
+  public ParallelReducer() {
+    this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+  }
+
+  // threshold is both the size below which lists are reduced sequentially and the length of each segment
+  public ParallelReducer(ForkJoinPool pool, int threshold) {
+    if (threshold < 1) throw new IllegalArgumentException("threshold must be positive");
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  // Returns the result of combining identity and every element of the list with the operator
+  public Object reduce(ListNode head, IReduceOperator operator, Object identity) {
+    List<ListSegment> segments = listSegmenter.segments(head, threshold);
+    if (segments.isEmpty()) return identity;
+    if (segments.size() == 1) return reduceSegment(segments.get(0), operator, identity);
+
+    return pool.invoke(new ReduceTask(segments, 0, segments.size(), operator, identity));
+  }
+
+  private static Object reduceSegment(ListSegment segment, IReduceOperator operator, Object identity) {
+    Object result = identity;
+    ListNode currentNode = segment.start;
+    for (int i = 0; i < segment.length; i++) {
+      result = operator.operate(result, currentNode.element);
+      currentNode = currentNode.next;
+    }
+    return result;
+  }
+
+  // Reduces the segments from index from up to (excluding) index to, splitting the range in half until
+  // a single segment is left
+  private static class ReduceTask extends RecursiveTask<Object> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ListSegment> segments;
+    private final int from;
+    private final int to;
+    private final IReduceOperator operator;
+    private final Object identity;
+
+    ReduceTask(List<ListSegment> segments, int from, int to, IReduceOperator operator, Object identity) {
+      this.segments = segments;
+      this.from = from;
+      this.to = to;
+      this.operator = operator;
+      this.identity = identity;
+    }
+
+    @Override
+    protected Object compute() {
+      if (to - from == 1) return reduceSegment(segments.get(from), operator, identity);
+
+      int middle = (from + to) >>> 1;
+      ReduceTask left = new ReduceTask(segments, from, middle, operator, identity);
+      ReduceTask right = new ReduceTask(segments, middle, to, operator, identity);
+      left.fork();
+      Object rightResult = right.compute();
+      return operator.operate(left.join(), rightResult);
+    }
+  }
+}
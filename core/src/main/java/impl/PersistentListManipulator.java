@@ -0,0 +1,210 @@
+package impl;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.PersistentList;
+import interfaces.IFilterCondition;
+import interfaces.IMapTransformation;
+import interfaces.IReduceOperator;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class represents the list operations of IListManipulator on immutable PersistentLists. Operations that would
+ * modify a list return a new list instead, leaving the given list as it was, and share the unchanged end of the
+ * given list rather than copying it. Lists are never locked, so any number of threads may read the same list.
+ */
+public class PersistentListManipulator {
+  // Returns the size of the list, which is stored in its first node
+  public int size(PersistentList list) {
+    return list == null ? 0 : list.size;
+  }
+
+  public boolean isEmpty(PersistentList list) {
+    return list == null;
+  }
+
+  public boolean contains(PersistentList list, Object element) {
+    for (PersistentList node = list; node != null; node = node.next) {
+      if (Objects.equals(node.element, element)) return true;
+    }
+    return false;
+  }
+
+  public int count(PersistentList list, Object element) {
+    int count = 0;
+    for (PersistentList node = list; node != null; node = node.next) {
+      if (Objects.equals(node.element, element)) count++;
+    }
+    return count;
+  }
+
+  public String convertToString(PersistentList list) {
+    StringBuilder result = new StringBuilder();
+    for (PersistentList node = list; node != null; node = node.next) {
+      if (node != list) result.append(',');
+      result.append(node.element);
+    }
+    return result.toString();
+  }
+
+  // Get nth element from the front, with the first element being the 0th element
+  public Object getFromFront(PersistentList list, int n) throws InvalidIndexException {
+    if (n < 0 || n >= size(list)) throw new InvalidIndexException();
+    return nodeAt(list, n).element;
+  }
+
+  // Get nth element from the back; the list is singly linked, so this walks size - 1 - n nodes from the front
+  public Object getFromBack(PersistentList list, int n) throws InvalidIndexException {
+    if (n < 0 || n >= size(list)) throw new InvalidIndexException();
+    return nodeAt(list, list.size - 1 - n).element;
+  }
+
+  // Lists of different sizes are never equal, and lists that share their remaining nodes are equal from there on
+  public boolean equals(PersistentList list1, PersistentList list2) {
+    if (size(list1) != size(list2)) return false;
+
+    PersistentList first = list1;
+    PersistentList second = list2;
+    while (first != second) {
+      if (!Objects.equals(first.element, second.element)) return false;
+      first = first.next;
+      second = second.next;
+    }
+    return true;
+  }
+
+  public boolean containsDuplicates(PersistentList list) {
+    Set<Object> seen = new HashSet<>();
+    for (PersistentList node = list; node != null; node = node.next) {
+      if (!seen.add(node.element)) return true;
+    }
+    return false;
+  }
+
+  // Returns a list with element in front of the given list, in constant time
+  public PersistentList addHead(PersistentList list, Object element) {
+    return new PersistentList(element, list);
+  }
+
+  // Returns the elements of list1 followed by those of list2, copying list1 and sharing list2
+  public PersistentList append(PersistentList list1, PersistentList list2) {
+    if (list1 == null) return list2;
+    return prepend(list1, list1.size, list2);
+  }
+
+  // Returns the list with element inserted at index n, copying the first n nodes
+  public PersistentList insert(PersistentList list, Object element, int n) throws InvalidIndexException {
+    if (n < 0 || n > size(list)) throw new InvalidIndexException();
+    return prepend(list, n, new PersistentList(element, n == 0 ? list : nodeAt(list, n)));
+  }
+
+  // Returns the list without the first occurrence of elem, copying the nodes before it, or the given list
+  // itself if elem does not occur in it
+  public PersistentList delete(PersistentList list, Object elem) {
+    int index = 0;
+    for (PersistentList node = list; node != null; node = node.next) {
+      if (Objects.equals(node.element, elem)) return prepend(list, index, node.next);
+      index++;
+    }
+    return list;
+  }
+
+  public PersistentList reverse(PersistentList list) {
+    PersistentList reversed = null;
+    for (PersistentList node = list; node != null; node = node.next) {
+      reversed = new PersistentList(node.element, reversed);
+    }
+    return reversed;
+  }
+
+  // Splits the list before the first element equal to elem, returning both parts. The second part is shared
+  // with the given list.
+  public PersistentList[] split(PersistentList list, Object elem) throws InvalidListException {
+    if (list == null || Objects.equals(list.element, elem)) throw new InvalidListException();
+
+    int index = 0;
+    for (PersistentList node = list; node != null; node = node.next) {
+      if (Objects.equals(node.element, elem)) return new PersistentList[] {prepend(list, index, null), node};
+      index++;
+    }
+    throw new InvalidListException();
+  }
+
+  public PersistentList map(PersistentList list, IMapTransformation transformation) {
+    if (list == null) return null;
+
+    Object[] elements = new Object[list.size];
+    int i = 0;
+    for (PersistentList node = list; node != null; node = node.next) {
+      elements[i++] = transformation.transform(node.element);
+    }
+    PersistentList result = null;
+    for (i = elements.length - 1; i >= 0; i--) {
+      result = new PersistentList(elements[i], result);
+    }
+    return result;
+  }
+
+  public Object reduce(PersistentList list, IReduceOperator operator, Object initial) {
+    Object result = initial;
+    for (PersistentList node = list; node != null; node = node.next) {
+      result = operator.operate(result, node.element);
+    }
+    return result;
+  }
+
+  // Returns the elements satisfying the condition. Everything after the last rejected element is shared with
+  // the given list, so a list in which every element survives is returned as it is.
+  public PersistentList filter(PersistentList list, IFilterCondition condition) {
+    if (list == null) return null;
+
+    boolean[] kept = new boolean[list.size];
+    int lastRejected = -1;
+    int i = 0;
+    for (PersistentList node = list; node != null; node = node.next) {
+      kept[i] = condition.isSatisfied(node.element);
+      if (!kept[i]) lastRejected = i;
+      i++;
+    }
+    if (lastRejected == -1) return list;
+
+    PersistentList shared = nodeAt(list, lastRejected).next;
+    Object[] survivors = new Object[lastRejected];
+    int count = 0;
+    i = 0;
+    for (PersistentList node = list; i < lastRejected; node = node.next) {
+      if (kept[i++]) survivors[count++] = node.element;
+    }
+    PersistentList result = shared;
+    for (i = count - 1; i >= 0; i--) {
+      result = new PersistentList(survivors[i], result);
+    }
+    return result;
+  }
+
+  private static PersistentList nodeAt(PersistentList list, int n) {
+    PersistentList node = list;
+    for (; n > 0; n--) {
+      node = node.next;
+    }
+    return node;
+  }
+
+  // Returns copies of the first count nodes of list followed by rest
+  private static PersistentList prepend(PersistentList list, int count, PersistentList rest) {
+    Object[] elements = new Object[count];
+    PersistentList node = list;
+    for (int i = 0; i < count; i++) {
+      elements[i] = node.element;
+      node = node.next;
+    }
+    PersistentList result = rest;
+    for (int i = count - 1; i >= 0; i--) {
+      result = new PersistentList(elements[i], result);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,307 @@
+package impl;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListNode;
+import interfaces.IFilterCondition;
+import interfaces.IListManipulator;
+import interfaces.IMapTransformation;
+import interfaces.IReduceOperator;
+import interfaces.ITrampoline;
+
+import java.util.Objects;
+
+/**
+ * This class represents the recursive implementation of the IListManipulator interface.
+ */
+public class RecursiveListManipulator implements IListManipulator {
+  private final DuplicateDetector duplicateDetector = new DuplicateDetector();
+
+  // Each recursive method below is written as a tail-recursive step function returning an ITrampoline,
+  // so the recursion runs in a loop with constant stack depth however long the list is. The recursion
+  // ends when it comes back round to the head it started from, which is passed along to each step, so
+  // read-only methods never write to the list and may be called by many threads at once.
+
+  @Override
+  public int size(ListNode head) {
+    if (head == null) return 0;
+    return sizeStep(head, head, 0).run();
+  }
+
+  private ITrampoline<Integer> sizeStep(ListNode head, ListNode node, int count) {
+    if (node.next == head) return ITrampoline.done(count + 1);
+    return () -> sizeStep(head, node.next, count + 1);
+  }
+
+  @Override
+  public boolean isEmpty(ListNode head) {
+    return head == null;
+  }
+
+  @Override
+  public boolean contains(ListNode head, Object element) {
+    if (head == null) return false;
+    return containsStep(head, head, element).run();
+  }
+
+  private ITrampoline<Boolean> containsStep(ListNode head, ListNode node, Object element) {
+    if (node.element.equals(element)) return ITrampoline.done(true);
+    if (node.next == head) return ITrampoline.done(false);
+    return () -> containsStep(head, node.next, element);
+  }
+
+  @Override
+  public int count(ListNode head, Object element) {
+    if (head == null) return 0;
+    return countStep(head, head, element, 0).run();
+  }
+
+  private ITrampoline<Integer> countStep(ListNode head, ListNode node, Object element, int count) {
+    int newCount = count + (node.element.equals(element) ? 1 : 0);
+    if (node.next == head) return ITrampoline.done(newCount);
+    return () -> countStep(head, node.next, element, newCount);
+  }
+
+  @Override
+  public String convertToString(ListNode head) {
+    if (head == null) return "";
+    return convertToStringStep(head, head, new StringBuilder()).run();
+  }
+
+  private ITrampoline<String> convertToStringStep(ListNode head, ListNode node, StringBuilder result) {
+    result.append(node.element);
+    if (node.next == head) return ITrampoline.done(result.toString());
+
+    result.append(',');
+    return () -> convertToStringStep(head, node.next, result);
+  }
+
+  // Walks forwards n nodes from the head, failing if the walk comes back round to the head first
+  @Override
+  public Object getFromFront(ListNode head, int n) throws InvalidIndexException {
+    if (n < 0 || head == null) throw new InvalidIndexException();
+
+    ListNode node = getFromFrontStep(head, head, n).run();
+    if (node == null) throw new InvalidIndexException();
+    return node.element;
+  }
+
+  private ITrampoline<ListNode> getFromFrontStep(ListNode head, ListNode node, int n) {
+    if (n == 0) return ITrampoline.done(node);
+    if (node.next == head) return ITrampoline.done(null);
+    return () -> getFromFrontStep(head, node.next, n - 1);
+  }
+
+  // Walks backwards n nodes from the tail, failing if the walk comes back round to the tail first
+  @Override
+  public Object getFromBack(ListNode head, int n) throws InvalidIndexException {
+    if (n < 0 || head == null) throw new InvalidIndexException();
+
+    ListNode node = getFromBackStep(head.previous, head.previous, n).run();
+    if (node == null) throw new InvalidIndexException();
+    return node.element;
+  }
+
+  private ITrampoline<ListNode> getFromBackStep(ListNode tail, ListNode node, int n) {
+    if (n == 0) return ITrampoline.done(node);
+    if (node.previous == tail) return ITrampoline.done(null);
+    return () -> getFromBackStep(tail, node.previous, n - 1);
+  }
+
+  @Override
+  public boolean equals(ListNode firstNode, ListNode secondNode) {
+    if (firstNode == null || secondNode == null) return firstNode == secondNode;
+    return equalsStep(firstNode, secondNode, firstNode, secondNode).run();
+  }
+
+  // Compares the lists element by element; they have equal length only if both come back round to
+  // their heads at the same step
+  private ITrampoline<Boolean> equalsStep(ListNode firstHead, ListNode secondHead, ListNode firstNode, ListNode secondNode) {
+    if (!Objects.equals(firstNode.element, secondNode.element)) return ITrampoline.done(false);
+
+    boolean firstEnded = firstNode.next == firstHead;
+    boolean secondEnded = secondNode.next == secondHead;
+    if (firstEnded || secondEnded) return ITrampoline.done(firstEnded && secondEnded);
+    return () -> equalsStep(firstHead, secondHead, firstNode.next, secondNode.next);
+  }
+
+  @Override
+  public boolean containsDuplicates(ListNode head) {
+    return duplicateDetector.containsDuplicates(head);
+  }
+
+  @Override
+  public ListNode addHead(ListNode head, ListNode node) {
+    ListNode tail = head.previous;
+    tail.next = node;
+    node.previous = tail;
+    node.next = head;
+    head.previous = node;
+    return node;
+  }
+
+  @Override
+  public ListNode append(ListNode firstListHead, ListNode secondListHead) {
+    if (firstListHead == null && secondListHead == null) return null;
+    if (firstListHead == null) return secondListHead;
+    if (secondListHead == null) return firstListHead;
+
+    ListNode firstTail = firstListHead.previous;
+    ListNode secondTail = secondListHead.previous;
+    firstTail.next = secondListHead;
+    secondTail.next = firstListHead;
+    secondListHead.previous = firstTail;
+    firstListHead.previous = secondTail;
+
+    return firstListHead;
+  }
+
+  // Walks to the node in front of position n and links node in after it; the walk fails if it comes
+  // back round to the head first, so the index is checked without counting the list beforehand
+  @Override
+  public ListNode insert(ListNode head, ListNode node, int n) throws InvalidIndexException {
+    if (n < 0) throw new InvalidIndexException();
+    if (n == 0) return addHead(head, node);
+    if (head == null) throw new InvalidIndexException();
+
+    ListNode previousNode = getFromFrontStep(head, head, n - 1).run();
+    if (previousNode == null) throw new InvalidIndexException();
+
+    node.next = previousNode.next;
+    node.previous = previousNode;
+    previousNode.next.previous = node;
+    previousNode.next = node;
+    return head;
+  }
+
+  @Override
+  public ListNode delete(ListNode head, Object elem) {
+    if (head.element.equals(elem) && head.next == head) return null;
+    return deleteStep(head, head, elem).run();
+  }
+
+  // Walks the list looking for the first node holding elem and unlinks it, keeping the original head
+  // unless it was the node removed
+  private ITrampoline<ListNode> deleteStep(ListNode head, ListNode currentNode, Object elem) {
+    if (currentNode.element.equals(elem)) {
+      currentNode.previous.next = currentNode.next;
+      currentNode.next.previous = currentNode.previous;
+      return ITrampoline.done(currentNode == head ? head.next : head);
+    }
+    if (currentNode.next == head) return ITrampoline.done(head);
+    return () -> deleteStep(head, currentNode.next, elem);
+  }
+
+  @Override
+  public ListNode reverse(ListNode head) {
+    if (isEmpty(head)) return head;
+    return reverseStep(head, head).run();
+  }
+
+  // Swaps the links of currentNode and moves on to the node that followed it. Once every node has been
+  // swapped, the old tail (now head.next) is the head of the reversed list.
+  private ITrampoline<ListNode> reverseStep(ListNode head, ListNode currentNode) {
+    ListNode nextNode = currentNode.next;
+    currentNode.next = currentNode.previous;
+    currentNode.previous = nextNode;
+    if (nextNode == head) return ITrampoline.done(head.next);
+    return () -> reverseStep(head, nextNode);
+  }
+
+  // Splits the list before the first node holding an element equal to node's element, returning a list of
+  // two nodes whose elements are the heads of the two parts. The list is returned unchanged if no such node
+  // is found.
+  @Override
+  public ListNode split(ListNode head, ListNode node) throws InvalidListException {
+    if (head == null || node == null || head.element.equals(node.element)) throw new InvalidListException();
+
+    ListNode delimiter = findStep(head, head.next, node.element).run();
+    if (delimiter == null) return head;
+
+    ListNode tail = head.previous;
+    delimiter.previous.next = head;
+    head.previous = delimiter.previous;
+    delimiter.previous = tail;
+    tail.next = delimiter;
+
+    ListNode result = new ListNode(head);
+    result.next = new ListNode(delimiter);
+    result.previous = result.next;
+    result.next.next = result;
+    result.next.previous = result;
+    return result;
+  }
+
+  // Returns the first node from node onwards holding element, or null if the walk comes back round to head
+  private ITrampoline<ListNode> findStep(ListNode head, ListNode node, Object element) {
+    if (node == head) return ITrampoline.done(null);
+    if (node.element.equals(element)) return ITrampoline.done(node);
+    return () -> findStep(head, node.next, element);
+  }
+
+  @Override
+  public ListNode map(ListNode head, IMapTransformation transformation) {
+    if (head == null) return null;
+    return mapStep(head, head, transformation).run();
+  }
+
+  private ITrampoline<ListNode> mapStep(ListNode head, ListNode node, IMapTransformation transformation) {
+    node.element = transformation.transform(node.element);
+    if (node.next == head) return ITrampoline.done(head);
+    return () -> mapStep(head, node.next, transformation);
+  }
+
+  @Override
+  public Object reduce(ListNode head, IReduceOperator operator, Object initial) {
+    if (head == null) return initial;
+    return reduceStep(head, head, operator, initial).run();
+  }
+
+  private ITrampoline<Object> reduceStep(ListNode head, ListNode node, IReduceOperator operator, Object result) {
+    Object newResult = operator.operate(result, node.element);
+    if (node.next == head) return ITrampoline.done(newResult);
+    return () -> reduceStep(head, node.next, operator, newResult);
+  }
+
+  // Unlinks every node whose element does not satisfy the condition in a single pass, returning the head of
+  // the remaining list (null if no node survives)
+  @Override
+  public ListNode filter(ListNode head, IFilterCondition condition) {
+    if (head == null) return null;
+    return filterStep(head.previous, head, condition, null, null).run();
+  }
+
+  // Relinks currentNode after last, the latest survivor, if it satisfies the condition, and otherwise leaves it
+  // as a single node. first is the first survivor; both are null until a node survives. The tail is passed
+  // along rather than the head, as the head may itself be unlinked before the walk ends.
+  private ITrampoline<ListNode> filterStep(ListNode tail, ListNode currentNode, IFilterCondition condition,
+                                           ListNode first, ListNode last) {
+    ListNode nextNode = currentNode.next;
+    boolean atTail = currentNode == tail;
+    ListNode newFirst = first;
+    ListNode newLast = last;
+    if (condition.isSatisfied(currentNode.element)) {
+      if (first == null) {
+        newFirst = currentNode;
+      } else {
+        last.next = currentNode;
+        currentNode.previous = last;
+      }
+      newLast = currentNode;
+    } else {
+      currentNode.next = currentNode;
+      currentNode.previous = currentNode;
+    }
+
+    if (atTail) {
+      if (newFirst != null) {
+        newFirst.previous = newLast;
+        newLast.next = newFirst;
+      }
+      return ITrampoline.done(newFirst);
+    }
+    ListNode survivorsFirst = newFirst;
+    ListNode survivorsLast = newLast;
+    return () -> filterStep(tail, nextNode, condition, survivorsFirst, survivorsLast);
+  }
+}
@@ -0,0 +1,44 @@
+package impl;
+
+import common.PersistentList;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class represents a shared, changing list for read-mostly workloads. It holds the current version of the list
+ * as an immutable PersistentList: readers take the current version in constant time without locking and see it
+ * unchanged however long they keep it, while writers build a new version and publish it atomically. Versions that
+ * are no longer referenced are reclaimed by the garbage collector.
+ */
+public class SnapshotList {
+  private final AtomicReference<PersistentList> current;
+
+  public SnapshotList() {
+    this(null);
+  }
+
+  public SnapshotList(PersistentList initial) {
+    this.current = new AtomicReference<>(initial);
+  }
+
+  // Returns the current version of the list
+  public PersistentList snapshot() {
+    return current.get();
+  }
+
+  // Replaces the current version with change applied to it, returning the new version. If another writer
+  // publishes a version first, change is applied again to that version, so it must have no side effects.
+  public PersistentList update(UnaryOperator<PersistentList> change) {
+    while (true) {
+      PersistentList version = current.get();
+      PersistentList updated = change.apply(version);
+      if (current.compareAndSet(version, updated)) return updated;
+    }
+  }
+
+  // Publishes replacement only if the current version is still expected, returning whether it was published
+  public boolean compareAndSet(PersistentList expected, PersistentList replacement) {
+    return current.compareAndSet(expected, replacement);
+  }
+}
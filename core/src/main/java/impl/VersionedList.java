@@ -0,0 +1,163 @@
+package impl;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListHandle;
+import common.ListNode;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * This class represents a list shared between threads that is read far more often than it is changed. Writers take
+ * the write lock of a StampedLock, which advances its stamp. Readers do not lock at all: they note the stamp, walk
+ * the list, and check afterwards that the stamp has not moved. Only if a write happened in between do they walk the
+ * list again under the read lock.
+ * A walk that overlaps a write may see the list half changed, so optimistic walks never take more steps than the
+ * size read at their start, and any exception they throw is only reported once the stamp has been validated.
+ */
+public class VersionedList {
+  private final ListHandleManipulator manipulator = new ListHandleManipulator();
+  private final StampedLock lock = new StampedLock();
+  private final ListHandle list;
+
+  /**
+   * A read-only operation on the list, which may be run optimistically.
+   */
+  private interface Reader<T> {
+    T read(ListHandle list) throws InvalidIndexException;
+  }
+
+  public VersionedList() {
+    this(new ListHandle());
+  }
+
+  public VersionedList(ListHandle list) {
+    this.list = list;
+  }
+
+  public int size() {
+    return readUnchecked(list -> list.size);
+  }
+
+  public boolean isEmpty() {
+    return readUnchecked(list -> list.size == 0);
+  }
+
+  public boolean contains(Object element) {
+    return readUnchecked(list -> {
+      ListNode currentNode = list.head;
+      for (int i = list.size; i > 0; i--) {
+        if (currentNode.element.equals(element)) return true;
+        currentNode = currentNode.next;
+      }
+      return false;
+    });
+  }
+
+  public int count(Object element) {
+    return readUnchecked(list -> {
+      int count = 0;
+      ListNode currentNode = list.head;
+      for (int i = list.size; i > 0; i--) {
+        if (currentNode.element.equals(element)) count++;
+        currentNode = currentNode.next;
+      }
+      return count;
+    });
+  }
+
+  // Get nth element from the front; the walk is bounded by n, so it needs no extra guard
+  public Object getFromFront(int n) throws InvalidIndexException {
+    return read(list -> manipulator.getFromFront(list, n));
+  }
+
+  public void addHead(Object element) {
+    long stamp = lock.writeLock();
+    try {
+      manipulator.addHead(list, new ListNode(element));
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  // Moves the nodes of other onto the end of this list, leaving other empty
+  public void append(ListHandle other) {
+    long stamp = lock.writeLock();
+    try {
+      manipulator.append(list, other);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public void insert(Object element, int n) throws InvalidIndexException {
+    long stamp = lock.writeLock();
+    try {
+      manipulator.insert(list, new ListNode(element), n);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public void delete(Object elem) {
+    long stamp = lock.writeLock();
+    try {
+      manipulator.delete(list, elem);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public void reverse() {
+    long stamp = lock.writeLock();
+    try {
+      manipulator.reverse(list);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  // Splits the list before the nth element, keeping the elements in front of it and returning the rest as a new
+  // list. The node is looked up under the same write lock, so no other writer can move it first.
+  public VersionedList split(int n) throws InvalidIndexException, InvalidListException {
+    long stamp = lock.writeLock();
+    try {
+      if (n < 0 || n >= list.size) throw new InvalidIndexException();
+      ListNode node = list.head;
+      for (int i = 0; i < n; i++) {
+        node = node.next;
+      }
+      return new VersionedList(manipulator.split(list, node));
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  // Runs reader without locking, and again under the read lock if a write overlapped it
+  private <T> T read(Reader<T> reader) throws InvalidIndexException {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        T result = reader.read(list);
+        if (lock.validate(stamp)) return result;
+      } catch (InvalidIndexException | RuntimeException e) {
+        if (lock.validate(stamp)) throw e;
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return reader.read(list);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private <T> T readUnchecked(Reader<T> reader) {
+    try {
+      return read(reader);
+    } catch (InvalidIndexException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
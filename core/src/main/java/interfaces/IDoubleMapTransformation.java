@@ -0,0 +1,17 @@
+package interfaces;
+
+/**
+ * Interface for transformation objects as used by the DoubleListManipulator.map method.
+ *
+ */
+@FunctionalInterface
+public interface IDoubleMapTransformation {
+
+    /**
+     * The method defines how to transform each specified element when performing a DoubleListManipulator map method call.
+     * @param element the element on which to perform the transform
+     * @return the transformed element
+     */
+    double transform(double element);
+
+}
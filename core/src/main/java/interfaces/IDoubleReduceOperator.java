@@ -0,0 +1,18 @@
+package interfaces;
+
+/**
+ * Interface for operator objects used by the DoubleListManipulator.reduce method.
+ *
+ */
+@FunctionalInterface
+public interface IDoubleReduceOperator {
+
+    /**
+     * The method defines how to combine the two specified elements when performing a DoubleListManipulator reduce method call.
+     * @param element1 the first element for the reduce
+     * @param element2 the second element for the reduce
+     * @return the result of combining element1 and element2
+     */
+    double operate(double element1, double element2);
+
+}
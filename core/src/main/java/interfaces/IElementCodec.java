@@ -0,0 +1,41 @@
+package interfaces;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface for codec objects used by MappedListFile to store list elements in a fixed number of bytes each, so that
+ * any element of a stored list can be found from its index without reading the elements before it.
+ *
+ */
+public interface IElementCodec {
+
+    /**
+     * The method defines the number identifying this codec, which is stored in the header of a list file so that the
+     * file is only loaded with the codec that wrote it.
+     * @return the identifier of this codec
+     */
+    int typeId();
+
+    /**
+     * The method defines the number of bytes used to store each element.
+     * @return the width of an encoded element in bytes
+     */
+    int width();
+
+    /**
+     * The method defines how to store the specified element.
+     * @param buffer the buffer to write the element to
+     * @param offset the position in buffer at which the element starts
+     * @param element the element to store, which must not be null
+     */
+    void encode(ByteBuffer buffer, int offset, Object element);
+
+    /**
+     * The method defines how to read back an element stored by encode.
+     * @param buffer the buffer to read the element from
+     * @param offset the position in buffer at which the element starts
+     * @return the stored element
+     */
+    Object decode(ByteBuffer buffer, int offset);
+
+}
@@ -0,0 +1,26 @@
+package interfaces;
+
+/**
+ * Interface for hashing strategy objects, permitting callers to define how list elements are hashed and compared
+ * when looking for equal elements.
+ *
+ */
+public interface IHashingStrategy {
+
+    /**
+     * The method defines the hash code of the specified element. Elements that are equal according to the equals
+     * method of this strategy must have the same hash code.
+     * @param element the element to hash, which may be null
+     * @return the hash code of element
+     */
+    int hash(Object element);
+
+    /**
+     * The method defines whether the two specified elements are equal.
+     * @param element1 the first element to compare, which may be null
+     * @param element2 the second element to compare, which may be null
+     * @return true if element1 and element2 are equal and false otherwise
+     */
+    boolean equals(Object element1, Object element2);
+
+}
@@ -0,0 +1,17 @@
+package interfaces;
+
+/**
+ * Interface for transformation objects as used by the IntListManipulator.map method.
+ *
+ */
+@FunctionalInterface
+public interface IIntMapTransformation {
+
+    /**
+     * The method defines how to transform each specified element when performing an IntListManipulator map method call.
+     * @param element the element on which to perform the transform
+     * @return the transformed element
+     */
+    int transform(int element);
+
+}
@@ -0,0 +1,18 @@
+package interfaces;
+
+/**
+ * Interface for operator objects used by the IntListManipulator.reduce method.
+ *
+ */
+@FunctionalInterface
+public interface IIntReduceOperator {
+
+    /**
+     * The method defines how to combine the two specified elements when performing an IntListManipulator reduce method call.
+     * @param element1 the first element for the reduce
+     * @param element2 the second element for the reduce
+     * @return the result of combining element1 and element2
+     */
+    int operate(int element1, int element2);
+
+}
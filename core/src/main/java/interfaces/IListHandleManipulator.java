@@ -0,0 +1,194 @@
+package interfaces;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListCursor;
+import common.ListHandle;
+import common.ListNode;
+
+/**
+ * Interface for an ADT providing operations on linked lists accessed through a size-caching list handle.
+ * Implementations keep the cached tail and size of each handle up to date, so size queries and index bounds checks
+ * do not need to walk the list.
+ */
+public interface IListHandleManipulator {
+
+  /**
+   * Returns the size of a list.
+   *
+   * @param list the handle of the list
+   * @return the size of the list
+   */
+  int size(ListHandle list);
+
+  /**
+   * Returns a boolean on whether a list is empty.
+   *
+   * @param list the handle of the list
+   * @return true if the list is empty, false otherwise.
+   */
+  boolean isEmpty(ListHandle list);
+
+  /**
+   * Checks whether a list contains an element equal to the given element.
+   *
+   * @param list    the handle of the list
+   * @param element the element to be matched
+   * @return true if the list contains an element equal to the given element
+   */
+  boolean contains(ListHandle list, Object element);
+
+  /**
+   * Counts the number of occurrences of a given element in a list.
+   *
+   * @param list    the handle of the list
+   * @param element the element to be matched
+   * @return the number of elements in the list that are equal to the given element
+   */
+  int count(ListHandle list, Object element);
+
+  /**
+   * Returns a string representation of a list.
+   *
+   * @param list the handle of the list
+   * @return a string representation comprising the string representations of the list elements, separated by commas
+   */
+  String convertToString(ListHandle list);
+
+  /**
+   * Accesses an element of a list, counting from the head of the list.
+   *
+   * @param list the handle of the list
+   * @param n    the position of the required element, with zero interpreted as the head
+   * @return the element at the specified position
+   * @throws InvalidIndexException if the position is not valid
+   */
+  Object getFromFront(ListHandle list, int n) throws InvalidIndexException;
+
+  /**
+   * Accesses an element of a list, counting back from the tail of the list.
+   *
+   * @param list the handle of the list
+   * @param n    the position of the required element, with zero interpreted as the tail
+   * @return the element at the specified position
+   * @throws InvalidIndexException if the position is not valid
+   */
+  Object getFromBack(ListHandle list, int n) throws InvalidIndexException;
+
+  /**
+   * Accesses an element of a list, counting from the head of the list, starting the walk from the position a cursor
+   * was left at by an earlier call if that is closer than either end of the list. The cursor is moved to the
+   * accessed position, so accessing consecutive positions takes constant time per call.
+   *
+   * @param list   the handle of the list
+   * @param index  the position of the required element, with zero interpreted as the head
+   * @param cursor the cursor to start from and update; it is ignored if the list has been structurally modified since it was last positioned
+   * @return the element at the specified position
+   * @throws InvalidIndexException if the position is not valid
+   */
+  Object get(ListHandle list, int index, ListCursor cursor) throws InvalidIndexException;
+
+  /**
+   * Checks for equality of two lists.
+   *
+   * @param list1 the handle of the first list
+   * @param list2 the handle of the second list
+   * @return true if the lists have equal length and the corresponding elements at each position are equal
+   */
+  boolean equals(ListHandle list1, ListHandle list2);
+
+  /**
+   * Checks whether a list contains duplicate elements that are equal to each other.
+   *
+   * @param list the handle of the list
+   * @return true if the list contains two or more elements that are equal to one another
+   */
+  boolean containsDuplicates(ListHandle list);
+
+  /**
+   * Adds a single node to the front of a list. You may assume that the node is a single node (i.e. it is not part of a list).
+   *
+   * @param list the handle of the list
+   * @param node the new head of the list
+   * @return the handle of the list, whose head is now node
+   */
+  ListHandle addHead(ListHandle list, ListNode node);
+
+  /**
+   * Appends one list to the end of another. The nodes of the second list are moved into the first list, leaving the
+   * second handle empty.
+   *
+   * @param list1 the handle of the first list
+   * @param list2 the handle of the second list
+   * @return the handle of the first list, containing the elements of the first list followed by the elements of the second list
+   */
+  ListHandle append(ListHandle list1, ListHandle list2);
+
+  /**
+   * Adds a node into the list at index n.
+   *
+   * @param list the handle of the list
+   * @param node the node to be added into the list. You may assume node is a single node (i.e. it is not part of a list)
+   * @param n    the index at which a node is to be inserted into
+   * @return the handle of the list, containing the node at index n
+   * @throws InvalidIndexException if the position is not valid
+   */
+  ListHandle insert(ListHandle list, ListNode node, int n) throws InvalidIndexException;
+
+  /**
+   * Removes the first occurrence of the specified element from this list, if it is present.
+   *
+   * @param list the handle of the list
+   * @param elem the element to be removed from the list
+   * @return the handle of the list, with the first occurrence of elem removed
+   */
+  ListHandle delete(ListHandle list, Object elem);
+
+  /**
+   * Reverses the given list.
+   *
+   * @param list the handle of the list
+   * @return the handle of the list, containing the elements of the list in reverse order
+   */
+  ListHandle reverse(ListHandle list);
+
+  /**
+   * Splits a list at the given node into two non-empty sublists. The given handle keeps the first sublist, and a new
+   * handle is returned for the second sublist, which starts at node.
+   * Splitting the list [5, 3, 9] at 3 should leave [5] in the given handle and return a handle of [3, 9].
+   *
+   * @param list the handle of the list that is to be split
+   * @param node the node at which to split the list, matched by identity
+   * @return the handle of the second sublist
+   * @throws InvalidListException if the given list cannot be split into two non-empty sublists at node
+   */
+  ListHandle split(ListHandle list, ListNode node) throws InvalidListException;
+
+  /**
+   * Applies the given transformation to all elements of the list.
+   *
+   * @param list           the handle of the list
+   * @param transformation the transformation to be applied to each element
+   * @return the handle of the list, containing the transformed elements
+   */
+  ListHandle map(ListHandle list, IMapTransformation transformation);
+
+  /**
+   * Returns the result of combining the given initial value and all the elements of the input list using the given associative operator.
+   *
+   * @param list     the handle of the list
+   * @param operator the operator used to combine elements
+   * @param initial  the initial value to be combined with the first element
+   * @return the result of combining the initial value and all the elements in the list
+   */
+  Object reduce(ListHandle list, IReduceOperator operator, Object initial);
+
+  /**
+   * Removes from the list every element that does not meet the specified filter condition.
+   *
+   * @param list      the handle of the list
+   * @param condition the condition for elements to be kept in the list
+   * @return the handle of the list, containing only those elements meeting the specified filter condition in their original order
+   */
+  ListHandle filter(ListHandle list, IFilterCondition condition);
+}
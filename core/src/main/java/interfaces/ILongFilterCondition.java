@@ -0,0 +1,17 @@
+package interfaces;
+
+/**
+ * Interface for filter objects as used by the LongListManipulator.filter method.
+ *
+ */
+@FunctionalInterface
+public interface ILongFilterCondition {
+
+    /**
+     * The method defines whether each specified element satisfies the condition to be included in the result when performing a LongListManipulator filter method call.
+     * @param element the element to check for inclusion in the filtered list
+     * @return true if element should be included in the filtered list and false otherwise
+     */
+    boolean isSatisfied(long element);
+
+}
@@ -0,0 +1,17 @@
+package interfaces;
+
+/**
+ * Interface for transformation objects as used by the LongListManipulator.map method.
+ *
+ */
+@FunctionalInterface
+public interface ILongMapTransformation {
+
+    /**
+     * The method defines how to transform each specified element when performing a LongListManipulator map method call.
+     * @param element the element on which to perform the transform
+     * @return the transformed element
+     */
+    long transform(long element);
+
+}
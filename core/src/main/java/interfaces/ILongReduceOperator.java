@@ -0,0 +1,18 @@
+package interfaces;
+
+/**
+ * Interface for operator objects used by the LongListManipulator.reduce method.
+ *
+ */
+@FunctionalInterface
+public interface ILongReduceOperator {
+
+    /**
+     * The method defines how to combine the two specified elements when performing a LongListManipulator reduce method call.
+     * @param element1 the first element for the reduce
+     * @param element2 the second element for the reduce
+     * @return the result of combining element1 and element2
+     */
+    long operate(long element1, long element2);
+
+}
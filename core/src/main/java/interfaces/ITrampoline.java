@@ -0,0 +1,71 @@
+package interfaces;
+
+/**
+ * Interface for one step of a tail-recursive computation, which is either the final result or the recursive call
+ * that computes the rest of it. Running a computation step by step in a loop, rather than letting each call make the
+ * next, keeps the stack depth constant however deep the recursion goes.
+ *
+ * @param <T> the type of the result of the computation
+ */
+@FunctionalInterface
+public interface ITrampoline<T> {
+
+    /**
+     * The method makes the recursive call represented by this step.
+     * @return the step returned by the recursive call
+     */
+    ITrampoline<T> bounce();
+
+    /**
+     * The method defines whether this step is the final result of the computation.
+     * @return true if this step holds the result and false if there is a further call to make
+     */
+    default boolean isDone() {
+        return false;
+    }
+
+    /**
+     * The method returns the result held by a final step.
+     * @return the result of the computation
+     */
+    default T result() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * The method runs the computation from this step until it produces a result, using constant stack depth.
+     * @return the result of the computation
+     */
+    default T run() {
+        ITrampoline<T> step = this;
+        while (!step.isDone()) {
+            step = step.bounce();
+        }
+        return step.result();
+    }
+
+    /**
+     * The method creates the final step of a computation.
+     * @param result the result of the computation
+     * @param <T> the type of the result of the computation
+     * @return a step holding result
+     */
+    static <T> ITrampoline<T> done(T result) {
+        return new ITrampoline<T>() {
+            @Override
+            public ITrampoline<T> bounce() {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public boolean isDone() {
+                return true;
+            }
+
+            @Override
+            public T result() {
+                return result;
+            }
+        };
+    }
+}
@@ -0,0 +1,223 @@
+package test;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListNode;
+import impl.ArrayRingManipulator;
+import impl.DuplicateDetector;
+import interfaces.IFilterCondition;
+import interfaces.IListManipulator;
+import interfaces.IMapTransformation;
+import interfaces.IReduceOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class adapts ArrayRingManipulator to the IListManipulator interface so that the array-backed operations can be
+ * run against the same conformance tests as the ListNode-based manipulators. Every call copies the lists it is given
+ * into a fresh array ring, runs the array-backed operation there, and then relinks the original ListNode objects to
+ * match the result, so the nodes returned and the identity of every node are exactly as with ListManipulator.
+ * The copy makes every call linear in the size of its lists and allocates a new ring each time, so this is a test
+ * harness only; code that wants the compact layout keeps its lists in an ArrayRingManipulator throughout.
+ */
+class ArrayRingListManipulator implements IListManipulator {
+  private final DuplicateDetector duplicateDetector = new DuplicateDetector();
+
+  /**
+   * The rings a single call works on, copied into one array ring, with the ListNode each slot was copied from.
+   */
+  private static class Rings {
+    private final ArrayRingManipulator rings = new ArrayRingManipulator();
+    private final List<ListNode> nodes = new ArrayList<>();
+
+    // Copies a list into the array ring, returning the slot of its head. A fresh array ring hands out slots
+    // in order, so slot i is always the ith node added.
+    int load(ListNode head) {
+      if (head == null) return ArrayRingManipulator.NIL;
+
+      int newHead = ArrayRingManipulator.NIL;
+      ListNode currentNode = head;
+      do {
+        nodes.add(currentNode);
+        newHead = rings.append(newHead, rings.newNode(currentNode.element));
+        currentNode = currentNode.next;
+      } while (currentNode != head);
+      return newHead;
+    }
+
+    // Copies a single node into the array ring, ignoring any links it has, and returns its slot
+    int loadNode(ListNode node) {
+      nodes.add(node);
+      return rings.newNode(node.element);
+    }
+
+    // Relinks the original nodes of a list in the array ring to match it, returning its head
+    ListNode store(int head) {
+      if (head == ArrayRingManipulator.NIL) return null;
+
+      int currentNode = head;
+      do {
+        ListNode node = nodes.get(currentNode);
+        node.element = rings.element(currentNode);
+        node.next = nodes.get(rings.next(currentNode));
+        node.previous = nodes.get(rings.previous(currentNode));
+        currentNode = rings.next(currentNode);
+      } while (currentNode != head);
+      return nodes.get(head);
+    }
+
+    // Leaves every copied node that is not in the given list as a single node, as ListFilter does with the nodes
+    // it rejects, rather than pointing into the list it was dropped from
+    void detachOthers(int head) {
+      boolean[] kept = new boolean[nodes.size()];
+      if (head != ArrayRingManipulator.NIL) {
+        int currentNode = head;
+        do {
+          kept[currentNode] = true;
+          currentNode = rings.next(currentNode);
+        } while (currentNode != head);
+      }
+
+      for (int slot = 0; slot < kept.length; slot++) {
+        if (kept[slot]) continue;
+        ListNode node = nodes.get(slot);
+        node.next = node;
+        node.previous = node;
+      }
+    }
+  }
+
+  @Override
+  public int size(ListNode head) {
+    Rings rings = new Rings();
+    return rings.rings.size(rings.load(head));
+  }
+
+  @Override
+  public boolean isEmpty(ListNode head) {
+    return head == null;
+  }
+
+  @Override
+  public boolean contains(ListNode head, Object element) {
+    Rings rings = new Rings();
+    return rings.rings.contains(rings.load(head), element);
+  }
+
+  @Override
+  public int count(ListNode head, Object element) {
+    Rings rings = new Rings();
+    return rings.rings.count(rings.load(head), element);
+  }
+
+  @Override
+  public String convertToString(ListNode head) {
+    Rings rings = new Rings();
+    return rings.rings.convertToString(rings.load(head));
+  }
+
+  @Override
+  public Object getFromFront(ListNode head, int n) throws InvalidIndexException {
+    Rings rings = new Rings();
+    return rings.rings.getFromFront(rings.load(head), n);
+  }
+
+  @Override
+  public Object getFromBack(ListNode head, int n) throws InvalidIndexException {
+    Rings rings = new Rings();
+    return rings.rings.getFromBack(rings.load(head), n);
+  }
+
+  @Override
+  public boolean equals(ListNode head1, ListNode head2) {
+    Rings rings = new Rings();
+    return rings.rings.equals(rings.load(head1), rings.load(head2));
+  }
+
+  // The array ring has no duplicate check of its own, and the hash-based one needs no links to be followed quickly
+  @Override
+  public boolean containsDuplicates(ListNode head) {
+    return duplicateDetector.containsDuplicates(head);
+  }
+
+  @Override
+  public ListNode addHead(ListNode head, ListNode node) {
+    Rings rings = new Rings();
+    int list = rings.load(head);
+    return rings.store(rings.rings.addHead(list, rings.loadNode(node)));
+  }
+
+  @Override
+  public ListNode append(ListNode head1, ListNode head2) {
+    Rings rings = new Rings();
+    int list1 = rings.load(head1);
+    int list2 = rings.load(head2);
+    return rings.store(rings.rings.append(list1, list2));
+  }
+
+  @Override
+  public ListNode insert(ListNode head, ListNode node, int n) throws InvalidIndexException {
+    Rings rings = new Rings();
+    int list = rings.load(head);
+    return rings.store(rings.rings.insert(list, rings.loadNode(node), n));
+  }
+
+  @Override
+  public ListNode delete(ListNode head, Object elem) {
+    Rings rings = new Rings();
+    return rings.store(rings.rings.delete(rings.load(head), elem));
+  }
+
+  @Override
+  public ListNode reverse(ListNode head) {
+    Rings rings = new Rings();
+    return rings.store(rings.rings.reverse(rings.load(head)));
+  }
+
+  // Splits before the first node whose element equals that of node, with the same result and errors as
+  // ListManipulator: a two-node list holding the heads of both parts, or the list unchanged if no node matches
+  @Override
+  public ListNode split(ListNode head, ListNode node) throws InvalidListException {
+    if (head == null || node == null || head.element.equals(node.element)) throw new InvalidListException();
+
+    Rings rings = new Rings();
+    int list = rings.load(head);
+    int delimiter = ArrayRingManipulator.NIL;
+    for (int slot = 0; slot < rings.nodes.size(); slot++) {
+      if (rings.nodes.get(slot).element.equals(node.element)) {
+        delimiter = slot;
+        break;
+      }
+    }
+    if (delimiter == ArrayRingManipulator.NIL) return head;
+
+    int[] parts = rings.rings.split(list, delimiter);
+    ListNode result = new ListNode(rings.store(parts[0]));
+    result.next = new ListNode(rings.store(parts[1]));
+    result.previous = result.next;
+    result.next.next = result;
+    result.next.previous = result;
+    return result;
+  }
+
+  @Override
+  public ListNode map(ListNode head, IMapTransformation transformation) {
+    Rings rings = new Rings();
+    return rings.store(rings.rings.map(rings.load(head), transformation));
+  }
+
+  @Override
+  public Object reduce(ListNode head, IReduceOperator operator, Object initial) {
+    Rings rings = new Rings();
+    return rings.rings.reduce(rings.load(head), operator, initial);
+  }
+
+  @Override
+  public ListNode filter(ListNode head, IFilterCondition condition) {
+    Rings rings = new Rings();
+    int list = rings.rings.filter(rings.load(head), condition);
+    rings.detachOthers(list);
+    return rings.store(list);
+  }
+}
@@ -0,0 +1,38 @@
+package test;
+
+import common.ListHandle;
+import common.ListNode;
+import interfaces.IListManipulator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concrete JUnit test class (subclass of AbstractListManipulatorTest) for testing the array-backed operations through
+ * the ArrayRingListManipulator test harness.
+ */
+public class ArrayRingListManipulatorTest extends AbstractListManipulatorTest {
+
+  @Override
+  public IListManipulator makeListManipulator() {
+    return new ArrayRingListManipulator();
+  }
+
+  /**
+   * Tests that filtering leaves the rejected nodes as single nodes, as ListFilter does, and relinks the rest.
+   */
+  @Test
+  public void filterDetachesRejectedNodes() {
+    IListManipulator manipulator = makeListManipulator();
+    ListHandle list = ListHandleManipulatorTest.makeList(1, 2, 3, 4, 5);
+    ListNode two = list.head.next;
+    ListNode five = list.head.previous;
+
+    ListNode head = manipulator.filter(list.head, element -> (Integer) element % 2 == 1 && (Integer) element < 5);
+    assertEquals("1,3", manipulator.convertToString(head));
+    assertSame(two, two.next);
+    assertSame(two, two.previous);
+    assertSame(five, five.next);
+    assertSame(five, five.previous);
+  }
+}
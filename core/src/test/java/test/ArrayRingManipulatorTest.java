@@ -0,0 +1,113 @@
+package test;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import impl.ArrayRingManipulator;
+import impl.ListManipulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the array-backed ArrayRingManipulator.
+ */
+public class ArrayRingManipulatorTest {
+
+  private ArrayRingManipulator manipulator;
+
+  /**
+   * Method used to set up common test objects prior to every test.
+   */
+  @BeforeEach
+  public void setup() {
+    manipulator = new ArrayRingManipulator(2);
+  }
+
+  /**
+   * Builds a list in the manipulator holding the given elements in order.
+   *
+   * @param elements the elements of the list
+   * @return the slot of the head of the list
+   */
+  private int makeList(Object... elements) {
+    int head = ArrayRingManipulator.NIL;
+    for (Object element : elements) {
+      head = manipulator.append(head, manipulator.newNode(element));
+    }
+    return head;
+  }
+
+  /**
+   * Tests the read-only operations.
+   *
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void queries() throws InvalidIndexException {
+    int head = makeList(5, 3, 9, 3);
+    assertEquals(4, manipulator.size(head));
+    assertEquals(0, manipulator.size(ArrayRingManipulator.NIL));
+    assertTrue(manipulator.contains(head, 9));
+    assertFalse(manipulator.contains(head, 4));
+    assertEquals(2, manipulator.count(head, 3));
+    assertEquals("5,3,9,3", manipulator.convertToString(head));
+    assertEquals(9, manipulator.getFromFront(head, 2));
+    assertEquals(3, manipulator.getFromBack(head, 0));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(head, 4));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(head, 4));
+    assertTrue(manipulator.equals(head, makeList(5, 3, 9, 3)));
+    assertFalse(manipulator.equals(head, makeList(5, 3, 9)));
+    assertEquals(20, manipulator.reduce(head, (a, b) -> (Integer) a + (Integer) b, 0));
+  }
+
+  /**
+   * Tests the mutating operations, including reuse of released slots.
+   *
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   * @throws InvalidListException  not expected to be thrown during this test.
+   */
+  @Test
+  public void mutations() throws InvalidIndexException, InvalidListException {
+    int head = makeList(1, 2, 3);
+    head = manipulator.addHead(head, manipulator.newNode(0));
+    head = manipulator.insert(head, manipulator.newNode(9), 2);
+    head = manipulator.insert(head, manipulator.newNode(4), 5);
+    assertEquals("0,1,9,2,3,4", manipulator.convertToString(head));
+    assertThrows(InvalidIndexException.class, () -> manipulator.insert(makeList(1), manipulator.newNode(2), 2));
+
+    head = manipulator.delete(head, 9);
+    head = manipulator.delete(head, 0);
+    assertEquals("1,2,3,4", manipulator.convertToString(head));
+    int reused = manipulator.newNode(7);
+    assertEquals(7, manipulator.element(reused));
+
+    head = manipulator.reverse(head);
+    assertEquals("4,3,2,1", manipulator.convertToString(head));
+
+    int[] parts = manipulator.split(head, manipulator.next(manipulator.next(head)));
+    assertEquals("4,3", manipulator.convertToString(parts[0]));
+    assertEquals("2,1", manipulator.convertToString(parts[1]));
+    assertThrows(InvalidListException.class, () -> manipulator.split(parts[0], parts[0]));
+
+    head = manipulator.map(manipulator.append(parts[0], parts[1]), element -> (Integer) element * 10);
+    head = manipulator.filter(head, element -> (Integer) element != 30);
+    assertEquals("40,20,10", manipulator.convertToString(head));
+    assertEquals(ArrayRingManipulator.NIL, manipulator.filter(head, element -> false));
+  }
+
+  /**
+   * Tests copying lists to and from ListNode rings.
+   */
+  @Test
+  public void listNodeConversion() {
+    ListManipulator listManipulator = new ListManipulator();
+    int head = manipulator.fromListNodes(ListHandleManipulatorTest.makeList(5, 3, 9).head);
+    assertEquals("5,3,9", manipulator.convertToString(head));
+    assertEquals("5,3,9", listManipulator.convertToString(manipulator.toListNodes(head)));
+    assertNull(manipulator.toListNodes(ArrayRingManipulator.NIL));
+
+    manipulator.free(head);
+    assertEquals("1,2,3", manipulator.convertToString(makeList(1, 2, 3)));
+  }
+}
@@ -0,0 +1,128 @@
+package test;
+
+import common.ConcurrentListNode;
+import common.InvalidIndexException;
+import impl.ConcurrentListManipulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the ConcurrentListManipulator.
+ */
+public class ConcurrentListManipulatorTest {
+  private static final int THREADS = 8;
+  private static final int OPERATIONS = 2_000;
+  private static final int STRESS_TIME_LIMIT = 60;
+
+  private final ConcurrentListManipulator manipulator = new ConcurrentListManipulator();
+
+  /**
+   * Checks that the previous and next links of a list agree with each other.
+   *
+   * @param list the sentinel of the list
+   */
+  private static void assertConsistent(ConcurrentListNode list) {
+    ConcurrentListNode currentNode = list;
+    do {
+      assertSame(currentNode, currentNode.next.previous);
+      currentNode = currentNode.next;
+    } while (currentNode != list);
+  }
+
+  /**
+   * Tests the list operations on a single thread.
+   *
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void operations() throws InvalidIndexException {
+    ConcurrentListNode list = manipulator.newList();
+    assertTrue(manipulator.isEmpty(list));
+    assertEquals("", manipulator.convertToString(list));
+    assertFalse(manipulator.delete(list, 1));
+
+    manipulator.append(list, 3);
+    manipulator.addHead(list, 5);
+    manipulator.append(list, 3);
+    manipulator.insert(list, 9, 2);
+    manipulator.insert(list, 7, 4);
+    assertEquals("5,3,9,3,7", manipulator.convertToString(list));
+    assertThrows(InvalidIndexException.class, () -> manipulator.insert(list, 1, 6));
+    assertEquals(5, manipulator.size(list));
+    assertTrue(manipulator.contains(list, 9));
+    assertFalse(manipulator.contains(list, 4));
+    assertEquals(2, manipulator.count(list, 3));
+    assertEquals(7, manipulator.getFromFront(list, 4));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(list, 5));
+
+    assertTrue(manipulator.delete(list, 3));
+    assertTrue(manipulator.delete(list, 7));
+    assertTrue(manipulator.delete(list, 5));
+    assertEquals("9,3", manipulator.convertToString(list));
+    assertConsistent(list);
+    assertTrue(manipulator.delete(list, 9));
+    assertTrue(manipulator.delete(list, 3));
+    assertTrue(manipulator.isEmpty(list));
+    assertConsistent(list);
+  }
+
+  /**
+   * Stress test in which many threads insert, append and delete their own elements at once while reading the list.
+   * Every element a thread adds is deleted again, so the list must end up as it started.
+   *
+   * @throws Exception if a thread fails
+   */
+  @Test
+  public void concurrentModification() throws Exception {
+    ConcurrentListNode list = manipulator.newList();
+    for (int i = 0; i < 100; i++) {
+      manipulator.append(list, i);
+    }
+    String expected = manipulator.convertToString(list);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        String name = "thread-" + t;
+        workers.add(executor.submit(() -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          for (int i = 0; i < OPERATIONS; i++) {
+            String element = name + "-" + i;
+            switch (i % 3) {
+              case 0:
+                manipulator.insert(list, element, random.nextInt(50));
+                break;
+              case 1:
+                manipulator.append(list, element);
+                break;
+              default:
+                manipulator.addHead(list, element);
+            }
+            assertTrue(manipulator.contains(list, element));
+            assertEquals(1, manipulator.count(list, random.nextInt(100)));
+            assertTrue(manipulator.delete(list, element));
+          }
+          return null;
+        }));
+      }
+      for (Future<?> worker : workers) {
+        worker.get(STRESS_TIME_LIMIT, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(expected, manipulator.convertToString(list));
+    assertConsistent(list);
+  }
+}
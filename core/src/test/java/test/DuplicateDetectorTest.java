@@ -0,0 +1,102 @@
+package test;
+
+import common.Duplicate;
+import common.ListHandle;
+import impl.DuplicateDetector;
+import interfaces.IHashingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the hash-based DuplicateDetector.
+ */
+public class DuplicateDetectorTest {
+
+  private static final int TIME_LIMIT = 500;
+
+  private final DuplicateDetector detector = new DuplicateDetector();
+
+  /**
+   * Tests the containsDuplicates method, including null elements.
+   */
+  @Test
+  public void containsDuplicates() {
+    assertFalse(detector.containsDuplicates(null));
+    assertFalse(detector.containsDuplicates(ListHandleManipulatorTest.makeList(5).head));
+    assertFalse(detector.containsDuplicates(ListHandleManipulatorTest.makeList(5, 3, 9, null).head));
+    assertTrue(detector.containsDuplicates(ListHandleManipulatorTest.makeList(5, 3, 9, 3).head));
+    assertTrue(detector.containsDuplicates(ListHandleManipulatorTest.makeList(null, 1, null).head));
+  }
+
+  /**
+   * Tests the findDuplicates method, which reports each repeated occurrence with the position of the first occurrence.
+   */
+  @Test
+  public void findDuplicates() {
+    List<Duplicate> duplicates = detector.findDuplicates(ListHandleManipulatorTest.makeList(5, 3, 5, 9, 3, 5).head);
+    assertEquals("[5@0,2, 3@1,4, 5@0,5]", duplicates.toString());
+    assertTrue(detector.findDuplicates(null).isEmpty());
+  }
+
+  /**
+   * Tests that a caller-supplied hashing strategy is used to decide equality.
+   */
+  @Test
+  public void hashingStrategy() {
+    IHashingStrategy ignoreCase = new IHashingStrategy() {
+      @Override
+      public int hash(Object element) {
+        return ((String) element).toLowerCase().hashCode();
+      }
+
+      @Override
+      public boolean equals(Object element1, Object element2) {
+        return ((String) element1).equalsIgnoreCase((String) element2);
+      }
+    };
+    assertFalse(detector.containsDuplicates(ListHandleManipulatorTest.makeList("a", "A").head));
+    assertTrue(new DuplicateDetector(ignoreCase).containsDuplicates(ListHandleManipulatorTest.makeList("a", "A").head));
+  }
+
+  /**
+   * Tests the bounded-memory mode, both when the Bloom filter pass proves there are no duplicates and when
+   * false positives force the exact pass, including a small filter whose candidates are checked in many batches.
+   */
+  @Test
+  public void containsDuplicatesBounded() {
+    Object[] distinct = new Object[10_000];
+    for (int i = 0; i < distinct.length; i++) {
+      distinct[i] = i;
+    }
+    ListHandle list = ListHandleManipulatorTest.makeList(distinct);
+    assertFalse(detector.containsDuplicatesBounded(list.head, 1 << 20));
+    assertFalse(detector.containsDuplicatesBounded(list.head, 64));
+
+    distinct[distinct.length - 1] = 17;
+    list = ListHandleManipulatorTest.makeList(distinct);
+    assertTrue(detector.containsDuplicatesBounded(list.head, 1 << 20));
+    assertTrue(detector.containsDuplicatesBounded(list.head, 64));
+    assertFalse(detector.containsDuplicatesBounded(null, 64));
+
+    distinct[0] = 17;
+    list = ListHandleManipulatorTest.makeList(distinct);
+    assertTrue(detector.containsDuplicatesBounded(list.head, 1 << 20));
+  }
+
+  /**
+   * Tests that a large list without duplicates is checked in linear time.
+   */
+  @Test
+  public void containsDuplicatesLargeList() {
+    Object[] distinct = new Object[200_000];
+    for (int i = 0; i < distinct.length; i++) {
+      distinct[i] = i;
+    }
+    ListHandle list = ListHandleManipulatorTest.makeList(distinct);
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> assertFalse(detector.containsDuplicates(list.head)));
+  }
+}
@@ -0,0 +1,87 @@
+package test;
+
+import common.ListHandle;
+import common.ListNode;
+import impl.ListFilter;
+import impl.ListManipulator;
+import interfaces.IFilterCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the single-pass ListFilter.
+ */
+public class ListFilterTest {
+
+  private static final int TIME_LIMIT = 500;
+
+  private ListFilter listFilter;
+  private ListManipulator manipulator;
+
+  /**
+   * Method used to set up common test objects prior to every test.
+   */
+  @BeforeEach
+  public void setup() {
+    listFilter = new ListFilter();
+    manipulator = new ListManipulator();
+  }
+
+  /**
+   * Tests in-place filtering, which must unlink the rejected nodes themselves even when equal elements are kept.
+   */
+  @Test
+  public void filterInPlace() {
+    ListHandle list = ListHandleManipulatorTest.makeList(5, 7, 5, 2, 5);
+    ListNode secondFive = list.head.next.next;
+
+    // Rejects only the second 5, so the first and last 5 must remain in place
+    IFilterCondition notSecondFive = new IFilterCondition() {
+      private int fivesSeen = 0;
+
+      @Override
+      public boolean isSatisfied(Object element) {
+        return !element.equals(5) || ++fivesSeen != 2;
+      }
+    };
+    listFilter.filterInPlace(list, notSecondFive);
+    assertEquals("5,7,2,5", manipulator.convertToString(list.head));
+    assertEquals(4, list.size);
+    assertSame(secondFive, secondFive.next);
+    ListHandleManipulatorTest.assertConsistent(list);
+
+    assertNull(listFilter.filterInPlace(list.head, element -> false));
+    assertNull(listFilter.filterInPlace((ListNode) null, element -> true));
+  }
+
+  /**
+   * Tests non-destructive filtering, which must leave the original list unchanged.
+   */
+  @Test
+  public void filterCopy() {
+    ListHandle list = ListHandleManipulatorTest.makeList(1, 2, 3, 4, 5, 6);
+    ListHandle evens = listFilter.filterCopy(list, element -> (Integer) element % 2 == 0);
+    assertEquals("2,4,6", manipulator.convertToString(evens.head));
+    assertEquals(3, evens.size);
+    assertEquals("1,2,3,4,5,6", manipulator.convertToString(list.head));
+    ListHandleManipulatorTest.assertConsistent(evens);
+
+    assertEquals(0, listFilter.filterCopy(list, element -> false).size);
+  }
+
+  /**
+   * Tests that filtering a large list takes linear time.
+   */
+  @Test
+  public void filterLargeList() {
+    ListHandle list = ListHandleManipulatorTest.makeRange(500_000);
+
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> listFilter.filterInPlace(list, element -> (Integer) element % 3 == 0));
+    assertEquals(166_667, list.size);
+    ListHandleManipulatorTest.assertConsistent(list);
+  }
+}
@@ -0,0 +1,399 @@
+package test;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListCursor;
+import common.ListHandle;
+import common.ListNode;
+import impl.ListHandleManipulator;
+import interfaces.IListHandleManipulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the ListHandleManipulator implementation, in particular that the cached tail and size
+ * of each handle are kept up to date by mutating operations.
+ */
+public class ListHandleManipulatorTest {
+
+  private static final int TIME_LIMIT = 100;
+
+  private IListHandleManipulator manipulator;
+
+  private ListHandle emptyList;
+  private ListHandle list1;
+  private ListHandle list3;
+  private ListHandle list5;
+
+  /**
+   * Builds a handle on a circular doubly linked list holding the given elements in order.
+   *
+   * @param elements the elements of the list
+   * @return the handle of the list
+   */
+  static ListHandle makeList(Object... elements) {
+    ListHandle list = new ListHandle();
+    for (Object element : elements) {
+      ListNode node = new ListNode(element);
+      if (list.head == null) {
+        node.next = node;
+        node.previous = node;
+        list.head = node;
+      } else {
+        node.previous = list.tail;
+        node.next = list.head;
+        list.tail.next = node;
+        list.head.previous = node;
+      }
+      list.tail = node;
+      list.size++;
+    }
+    return list;
+  }
+
+  /**
+   * Builds a handle on a circular doubly linked list of the integers from 0 to size - 1.
+   *
+   * @param size the number of elements
+   * @return the handle of the list
+   */
+  static ListHandle makeRange(int size) {
+    Object[] elements = new Object[size];
+    for (int i = 0; i < size; i++) {
+      elements[i] = i;
+    }
+    return makeList(elements);
+  }
+
+  /**
+   * Checks that the cached tail, size, (if tracked) content hash and (if indexed) element index of a handle agree
+   * with the list it refers to.
+   *
+   * @param list the handle to check
+   */
+  static void assertConsistent(ListHandle list) {
+    ListHandle recounted = new ListHandle(list.head, true, true);
+    assertEquals(list.size, recounted.size);
+    if (list.hashTracked) assertEquals(recounted.contentHash, list.contentHash);
+    if (list.index != null) {
+      assertEquals(recounted.index.distinct(), list.index.distinct());
+      ListNode currentNode = list.head;
+      for (int i = 0; i < list.size; i++) {
+        assertEquals(recounted.index.count(currentNode.element), list.index.count(currentNode.element));
+        currentNode = currentNode.next;
+      }
+    }
+    if (list.head == null) {
+      assertNull(list.tail);
+    } else {
+      assertSame(list.head.previous, list.tail);
+      assertSame(list.tail.next, list.head);
+    }
+  }
+
+  /**
+   * Method used to set up common test objects prior to every test.
+   */
+  @BeforeEach
+  public void setup() {
+    manipulator = new ListHandleManipulator();
+    emptyList = new ListHandle();
+    list1 = makeList(5);
+    list3 = makeList(5, 3, 9);
+    list5 = makeList(1, 2, 3, 4, 5);
+  }
+
+  /**
+   * Tests that a handle built from an existing list counts its nodes.
+   */
+  @Test
+  public void handleFromList() {
+    assertEquals(0, new ListHandle(null).size);
+    assertEquals(3, new ListHandle(list3.head).size);
+    assertSame(list3.tail, new ListHandle(list3.head).tail);
+  }
+
+  /**
+   * Tests the size and isEmpty methods.
+   */
+  @Test
+  public void size() {
+    assertEquals(0, manipulator.size(emptyList));
+    assertTrue(manipulator.isEmpty(emptyList));
+    assertEquals(3, manipulator.size(list3));
+    assertFalse(manipulator.isEmpty(list3));
+  }
+
+  /**
+   * Tests the getFromFront and getFromBack methods, including the bounds checks against the cached size.
+   */
+  @Test
+  public void getFromFrontAndBack() throws InvalidIndexException {
+    assertEquals(5, manipulator.getFromFront(list3, 0));
+    assertEquals(9, manipulator.getFromFront(list3, 2));
+    assertEquals(9, manipulator.getFromBack(list3, 0));
+    assertEquals(5, manipulator.getFromBack(list3, 2));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(list3, 3));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(list3, 3));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(emptyList, 0));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(list3, -1));
+  }
+
+  /**
+   * Tests the get method, including that a cursor is ignored once the list has been modified.
+   */
+  @Test
+  public void getWithCursor() throws InvalidIndexException {
+    ListCursor cursor = new ListCursor();
+    for (int i = 0; i < 5; i++) {
+      assertEquals(i + 1, manipulator.get(list5, i, cursor));
+    }
+    assertEquals(3, manipulator.get(list5, 2, cursor));
+
+    manipulator.delete(list5, 1);
+    assertEquals(4, manipulator.get(list5, 2, cursor));
+    assertEquals(5, manipulator.get(list5, 3, cursor));
+    assertThrows(InvalidIndexException.class, () -> manipulator.get(list5, 4, cursor));
+  }
+
+  /**
+   * Tests the equals method.
+   */
+  @Test
+  public void equals() {
+    assertTrue(manipulator.equals(emptyList, new ListHandle()));
+    assertTrue(manipulator.equals(list3, makeList(5, 3, 9)));
+    assertFalse(manipulator.equals(list3, makeList(5, 3)));
+    assertFalse(manipulator.equals(list3, makeList(5, 3, 8)));
+  }
+
+  /**
+   * Tests the addHead and append methods.
+   */
+  @Test
+  public void addHeadAndAppend() {
+    manipulator.addHead(emptyList, new ListNode(7));
+    assertEquals("7", manipulator.convertToString(emptyList));
+    assertConsistent(emptyList);
+
+    manipulator.addHead(list3, new ListNode(1));
+    assertEquals("1,5,3,9", manipulator.convertToString(list3));
+    assertConsistent(list3);
+
+    ListHandle second = makeList(4, 6);
+    manipulator.append(list3, second);
+    assertEquals("1,5,3,9,4,6", manipulator.convertToString(list3));
+    assertEquals(6, manipulator.size(list3));
+    assertTrue(manipulator.isEmpty(second));
+    assertConsistent(list3);
+    assertConsistent(second);
+
+    manipulator.append(emptyList, list1);
+    assertEquals("7,5", manipulator.convertToString(emptyList));
+    assertConsistent(emptyList);
+  }
+
+  /**
+   * Tests the insert method.
+   */
+  @Test
+  public void insert() throws InvalidIndexException {
+    assertThrows(InvalidIndexException.class, () -> manipulator.insert(list3, new ListNode(0), 4));
+    assertThrows(InvalidIndexException.class, () -> manipulator.insert(list3, new ListNode(0), -1));
+
+    manipulator.insert(list3, new ListNode(0), 0);
+    manipulator.insert(list3, new ListNode(4), 2);
+    manipulator.insert(list3, new ListNode(8), 5);
+    assertEquals("0,5,4,3,9,8", manipulator.convertToString(list3));
+    assertEquals(8, manipulator.getFromBack(list3, 0));
+    assertConsistent(list3);
+
+    manipulator.insert(emptyList, new ListNode(1), 0);
+    assertEquals("1", manipulator.convertToString(emptyList));
+    assertConsistent(emptyList);
+  }
+
+  /**
+   * Tests the delete method, including deleting the head, the tail and the only node.
+   */
+  @Test
+  public void delete() {
+    manipulator.delete(list5, 1);
+    manipulator.delete(list5, 5);
+    manipulator.delete(list5, 3);
+    manipulator.delete(list5, 6);
+    assertEquals("2,4", manipulator.convertToString(list5));
+    assertConsistent(list5);
+
+    manipulator.delete(list1, 5);
+    assertTrue(manipulator.isEmpty(list1));
+    assertConsistent(list1);
+  }
+
+  /**
+   * Tests the reverse method.
+   */
+  @Test
+  public void reverse() {
+    manipulator.reverse(list5);
+    assertEquals("5,4,3,2,1", manipulator.convertToString(list5));
+    assertConsistent(list5);
+  }
+
+  /**
+   * Tests the split method.
+   */
+  @Test
+  public void split() throws InvalidListException {
+    assertThrows(InvalidListException.class, () -> manipulator.split(emptyList, null));
+    assertThrows(InvalidListException.class, () -> manipulator.split(list3, list3.head));
+    assertThrows(InvalidListException.class, () -> manipulator.split(list3, new ListNode(3)));
+
+    ListHandle second = manipulator.split(list5, list5.head.next.next);
+    assertEquals("1,2", manipulator.convertToString(list5));
+    assertEquals("3,4,5", manipulator.convertToString(second));
+    assertEquals(2, manipulator.size(list5));
+    assertEquals(3, manipulator.size(second));
+    assertConsistent(list5);
+    assertConsistent(second);
+  }
+
+  /**
+   * Tests the filter method.
+   */
+  @Test
+  public void filter() {
+    manipulator.filter(list5, element -> (Integer) element % 2 == 1);
+    assertEquals("1,3,5", manipulator.convertToString(list5));
+    assertConsistent(list5);
+
+    manipulator.filter(list3, element -> (Integer) element > 10);
+    assertTrue(manipulator.isEmpty(list3));
+    assertConsistent(list3);
+  }
+
+  /**
+   * Tests that the content hash is kept up to date by mutating operations and used to reject unequal lists.
+   */
+  @Test
+  public void contentHash() throws InvalidIndexException, InvalidListException {
+    ListHandle tracked = new ListHandle(makeList(1, 2, 3, 4, 5).head, true);
+    ListHandle permuted = new ListHandle(makeList(5, 4, 3, 2, 1).head, true);
+    ListHandle different = new ListHandle(makeList(1, 2, 3, 4, 6).head, true);
+    assertEquals(tracked.contentHash, permuted.contentHash);
+    assertNotEquals(tracked.contentHash, different.contentHash);
+    assertFalse(manipulator.equals(tracked, different));
+    assertFalse(manipulator.equals(tracked, permuted));
+
+    manipulator.addHead(tracked, new ListNode(0));
+    manipulator.insert(tracked, new ListNode(7), 3);
+    manipulator.delete(tracked, 4);
+    assertConsistent(tracked);
+
+    ListHandle second = manipulator.split(tracked, tracked.head.next.next);
+    assertTrue(second.hashTracked);
+    assertConsistent(tracked);
+    assertConsistent(second);
+
+    manipulator.map(second, element -> (Integer) element * 10);
+    manipulator.filter(second, element -> (Integer) element != 30);
+    assertConsistent(second);
+
+    manipulator.append(tracked, second);
+    assertTrue(tracked.hashTracked);
+    assertConsistent(tracked);
+
+    manipulator.append(tracked, makeList(8));
+    assertFalse(tracked.hashTracked);
+  }
+
+  /**
+   * Tests that the element index is kept up to date by mutating operations and answers lookups without walking.
+   */
+  @Test
+  public void elementIndex() throws InvalidIndexException, InvalidListException {
+    ListHandle indexed = new ListHandle(makeList(1, 2, 3, 2, 5).head, false, true);
+    assertTrue(manipulator.contains(indexed, 3));
+    assertFalse(manipulator.contains(indexed, 4));
+    assertEquals(2, manipulator.count(indexed, 2));
+    assertTrue(manipulator.containsDuplicates(indexed));
+
+    // As when walking the list, null is never found, even if a node holds it
+    assertFalse(manipulator.contains(makeList(1, 2), null));
+    assertEquals(0, manipulator.count(makeList(1, 2), null));
+    ListHandle indexedWithNull = new ListHandle(makeList(1, null, 2).head, false, true);
+    assertFalse(manipulator.contains(indexedWithNull, null));
+    assertEquals(0, manipulator.count(indexedWithNull, null));
+    manipulator.delete(indexedWithNull, null);
+    assertEquals(3, manipulator.size(indexedWithNull));
+    assertConsistent(indexedWithNull);
+
+    manipulator.addHead(indexed, new ListNode(0));
+    manipulator.insert(indexed, new ListNode(7), 3);
+    manipulator.delete(indexed, 2);
+    assertEquals("0,1,7,3,2,5", manipulator.convertToString(indexed));
+    manipulator.delete(indexed, 3);
+    manipulator.delete(indexed, 9);
+    assertFalse(manipulator.containsDuplicates(indexed));
+    assertConsistent(indexed);
+
+    ListHandle second = manipulator.split(indexed, indexed.head.next.next);
+    assertEquals(0, manipulator.count(indexed, 7));
+    assertTrue(manipulator.contains(second, 7));
+    assertConsistent(indexed);
+    assertConsistent(second);
+
+    manipulator.map(second, element -> (Integer) element * 10);
+    assertTrue(manipulator.contains(second, 70));
+    assertFalse(manipulator.contains(second, 7));
+    manipulator.filter(second, element -> (Integer) element != 20);
+    assertFalse(manipulator.contains(second, 20));
+    assertConsistent(second);
+
+    manipulator.append(indexed, second);
+    manipulator.append(indexed, makeList(1));
+    assertEquals(2, manipulator.count(indexed, 1));
+    assertEquals(0, manipulator.count(second, 70));
+    assertConsistent(indexed);
+  }
+
+  /**
+   * Tests that lookups on a large indexed list take constant time.
+   */
+  @Test
+  public void indexedLookupsOnLargeList() {
+    ListHandle large = new ListHandle(null, false, true);
+    for (int i = 0; i < 1_000_000; i++) {
+      manipulator.addHead(large, new ListNode(i));
+    }
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> {
+      for (int i = 0; i < 1_000; i++) {
+        assertTrue(manipulator.contains(large, i * 1_000));
+        assertEquals(1, manipulator.count(large, i * 1_000));
+        manipulator.delete(large, i * 1_000 + 1);
+      }
+    });
+    assertEquals(999_000, manipulator.size(large));
+  }
+
+  /**
+   * Tests that size and bounds checks take constant time on a large list.
+   */
+  @Test
+  public void sizeIsCached() {
+    ListHandle large = new ListHandle();
+    for (int i = 0; i < 1_000_000; i++) {
+      manipulator.addHead(large, new ListNode(i));
+    }
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> {
+      for (int i = 0; i < 1_000; i++) {
+        assertEquals(1_000_000, manipulator.size(large));
+        assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(large, 1_000_000));
+      }
+    });
+  }
+}
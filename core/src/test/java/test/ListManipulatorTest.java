@@ -0,0 +1,72 @@
+package test;
+
+import common.InvalidIndexException;
+import common.ListCursor;
+import common.ListNode;
+import impl.ListManipulator;
+import interfaces.IListManipulator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concrete JUnit test class (subclass of ListManipulatorTest) for testing the IterativeListManipulator implementation.
+ *
+ */
+public class ListManipulatorTest extends AbstractListManipulatorTest {
+
+    @Override
+    public IListManipulator makeListManipulator() {
+        return new ListManipulator();
+    }
+
+    /**
+     * Tests that indexed access finds every position, whichever end it is closer to, in lists of odd and even length.
+     *
+     * @throws InvalidIndexException not expected to be thrown during this test.
+     */
+    @Test
+    public void indexedAccessFromBothEnds() throws InvalidIndexException {
+        ListManipulator manipulator = new ListManipulator();
+        for (int size = 1; size <= 9; size++) {
+            ListNode head = ListHandleManipulatorTest.makeRange(size).head;
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, manipulator.getFromFront(head, i));
+                assertEquals(size - 1 - i, manipulator.getFromBack(head, i));
+            }
+            final int tooLarge = size;
+            assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(head, tooLarge));
+            assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(head, tooLarge));
+
+            for (int i = 0; i <= size; i++) {
+                ListNode list = ListHandleManipulatorTest.makeRange(size).head;
+                list = manipulator.insert(list, new ListNode(-1), i);
+                assertEquals(-1, manipulator.getFromFront(list, i));
+                assertEquals(size + 1, manipulator.size(list));
+                assertSame(list, list.previous.next);
+            }
+        }
+    }
+
+    /**
+     * Tests the get method, which resumes indexed access from a cursor.
+     *
+     * @throws InvalidIndexException not expected to be thrown during this test.
+     */
+    @Test
+    public void getWithCursor() throws InvalidIndexException {
+        ListManipulator manipulator = new ListManipulator();
+        ListNode head = ListHandleManipulatorTest.makeRange(10).head;
+        ListCursor cursor = new ListCursor();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, manipulator.get(head, i, cursor));
+            assertEquals(i, cursor.index);
+        }
+        assertEquals(7, manipulator.get(head, 7, cursor));
+        assertEquals(8, manipulator.get(head, 8, cursor));
+        assertThrows(InvalidIndexException.class, () -> manipulator.get(head, 10, cursor));
+        assertThrows(InvalidIndexException.class, () -> manipulator.get(head, -1, cursor));
+        assertEquals(8, cursor.index);
+        assertEquals(2, manipulator.get(head, 2, cursor));
+    }
+}
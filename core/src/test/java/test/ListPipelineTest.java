@@ -0,0 +1,74 @@
+package test;
+
+import common.ListNode;
+import impl.ListManipulator;
+import impl.ListPipeline;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the ListPipeline.
+ */
+public class ListPipelineTest {
+
+  /**
+   * Tests that chained stages give the same result as map, filter and reduce on the list, in a single walk and
+   * without modifying the list.
+   */
+  @Test
+  public void fusedStages() {
+    ListManipulator manipulator = new ListManipulator();
+    ListNode head = ListHandleManipulatorTest.makeList(5, 3, 9, 3, 7).head;
+    int[] transformed = {0};
+
+    ListPipeline pipeline = manipulator.pipeline(head)
+        .map(element -> {
+          transformed[0]++;
+          return (Integer) element * 2;
+        })
+        .filter(element -> (Integer) element > 6);
+    assertEquals(0, transformed[0]);
+    assertEquals(42, pipeline.reduce((a, b) -> (Integer) a + (Integer) b, 0));
+    assertEquals(5, transformed[0]);
+    assertEquals(3, pipeline.count());
+    assertEquals("10,18,14", manipulator.convertToString(pipeline.toListNodes()));
+    assertEquals("5,3,9,3,7", manipulator.convertToString(head));
+
+    assertEquals(0, ListPipeline.of(null).map(element -> element).count());
+    assertNull(pipeline.filter(element -> false).toListNodes());
+  }
+
+  /**
+   * Tests that the short-circuiting operations stop walking the list as soon as their result is known.
+   */
+  @Test
+  public void shortCircuiting() {
+    ListNode head = ListHandleManipulatorTest.makeList(5, 3, 9, 3, 7).head;
+    int[] transformed = {0};
+    ListPipeline pipeline = ListPipeline.of(head).map(element -> {
+      transformed[0]++;
+      return element;
+    });
+
+    assertTrue(pipeline.anyMatch(element -> (Integer) element == 3));
+    assertEquals(2, transformed[0]);
+    assertFalse(pipeline.anyMatch(element -> (Integer) element == 4));
+    assertEquals(7, transformed[0]);
+
+    transformed[0] = 0;
+    assertEquals(Optional.of(9), pipeline.filter(element -> (Integer) element > 5).findFirst());
+    assertEquals(3, transformed[0]);
+    assertEquals(Optional.empty(), pipeline.filter(element -> false).findFirst());
+
+    transformed[0] = 0;
+    assertEquals(2, pipeline.filter(element -> (Integer) element == 3).limit(2).count());
+    assertEquals(4, transformed[0]);
+    assertEquals(8, pipeline.limit(2).reduce((a, b) -> (Integer) a + (Integer) b, 0));
+    assertEquals(0, pipeline.limit(0).count());
+    assertEquals(1, pipeline.limit(3).filter(element -> (Integer) element > 5).count());
+    assertThrows(IllegalArgumentException.class, () -> pipeline.limit(-1));
+  }
+}
@@ -0,0 +1,81 @@
+package test;
+
+import common.ListNode;
+import impl.ListSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the streaming ListSerializer.
+ */
+public class ListSerializerTest {
+
+  private static final int TIME_LIMIT = 500;
+
+  /**
+   * Tests converting lists to strings with the default and a custom separator.
+   */
+  @Test
+  public void convertToString() {
+    ListNode head = ListHandleManipulatorTest.makeList(5, 3, 9).head;
+    assertEquals("", new ListSerializer().convertToString(null));
+    assertEquals("5", new ListSerializer().convertToString(ListHandleManipulatorTest.makeList(5).head));
+    assertEquals("5,3,9", new ListSerializer().convertToString(head));
+    assertEquals("5 | 3 | 9", new ListSerializer(" | ").convertToString(head));
+  }
+
+  /**
+   * Tests streaming to a Writer in buffers smaller than the output, which must not drop or repeat separators
+   * at buffer boundaries.
+   *
+   * @throws IOException not expected to be thrown during this test.
+   */
+  @Test
+  public void writeInBuffers() throws IOException {
+    ListNode head = ListHandleManipulatorTest.makeList(10, 20, 30, 40, 50, 60, 70).head;
+    int[] writes = {0};
+    StringWriter target = new StringWriter();
+    Writer out = new Writer() {
+      @Override
+      public void write(char[] chars, int offset, int length) {
+        writes[0]++;
+        target.write(chars, offset, length);
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    new ListSerializer(";", 5).write(head, out);
+    assertEquals("10;20;30;40;50;60;70", target.toString());
+    assertTrue(writes[0] > 1);
+
+    StringBuilder builder = new StringBuilder("list: ");
+    new ListSerializer().write(head, builder);
+    assertEquals("list: 10,20,30,40,50,60,70", builder.toString());
+
+    StringWriter empty = new StringWriter();
+    new ListSerializer().write(null, empty);
+    assertEquals("", empty.toString());
+  }
+
+  /**
+   * Tests that a large list is converted in linear time.
+   */
+  @Test
+  public void convertLargeList() {
+    ListNode head = ListHandleManipulatorTest.makeRange(100_000).head;
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> assertTrue(new ListSerializer().convertToString(head).endsWith(",99999")));
+  }
+}
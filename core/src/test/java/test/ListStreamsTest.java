@@ -0,0 +1,71 @@
+package test;
+
+import common.ListHandle;
+import common.ListNode;
+import impl.ListSpliterator;
+import impl.ListStreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the ListSpliterator and ListStreams.
+ */
+public class ListStreamsTest {
+  private static final int LIST_SIZE = 50_001;
+
+  /**
+   * Tests the characteristics and splitting of the spliterator.
+   */
+  @Test
+  public void spliterator() {
+    ListHandle list = ListHandleManipulatorTest.makeRange(5);
+    ListSpliterator unsized = new ListSpliterator(list.head);
+    assertFalse(unsized.hasCharacteristics(Spliterator.SIZED));
+    assertTrue(unsized.hasCharacteristics(Spliterator.ORDERED));
+    assertEquals(-1, unsized.getExactSizeIfKnown());
+
+    Spliterator<Object> prefix = unsized.trySplit();
+    assertTrue(unsized.hasCharacteristics(Spliterator.SIZED));
+    assertEquals(2, prefix.getExactSizeIfKnown());
+    assertEquals(3, unsized.getExactSizeIfKnown());
+    List<Object> elements = new ArrayList<>();
+    prefix.forEachRemaining(elements::add);
+    assertTrue(unsized.tryAdvance(elements::add));
+    unsized.forEachRemaining(elements::add);
+    assertEquals(List.of(0, 1, 2, 3, 4), elements);
+    assertFalse(unsized.tryAdvance(elements::add));
+    assertNull(unsized.trySplit());
+
+    ListSpliterator sized = new ListSpliterator(list.head, list.size);
+    assertTrue(sized.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(5, sized.estimateSize());
+    assertEquals(0, new ListSpliterator(null).estimateSize());
+    assertNull(new ListSpliterator(ListHandleManipulatorTest.makeRange(1).head, 1).trySplit());
+  }
+
+  /**
+   * Tests sequential and parallel stream pipelines over a list, which must see the elements in list order.
+   */
+  @Test
+  public void streams() {
+    ListHandle list = ListHandleManipulatorTest.makeRange(LIST_SIZE);
+    long expectedSum = (long) LIST_SIZE * (LIST_SIZE - 1) / 2;
+
+    assertEquals(LIST_SIZE, ListStreams.stream(list.head).count());
+    assertEquals(expectedSum, ListStreams.parallelStream(list.head).mapToLong(e -> (Integer) e).sum());
+    assertEquals(expectedSum, ListStreams.parallelStream(list).mapToLong(e -> (Integer) e).sum());
+    assertEquals(IntStream.range(0, LIST_SIZE).filter(i -> i % 7 == 0).boxed().collect(Collectors.toList()),
+        ListStreams.parallelStream(list).filter(e -> (Integer) e % 7 == 0).collect(Collectors.toList()));
+    assertEquals("0,1,2", ListStreams.stream(ListHandleManipulatorTest.makeRange(3)).map(String::valueOf)
+        .collect(Collectors.joining(",")));
+    assertEquals(0, ListStreams.stream((ListNode) null).count());
+    assertEquals(0, ListStreams.parallelStream(new ListHandle()).count());
+  }
+}
@@ -0,0 +1,112 @@
+package test;
+
+import impl.LockFreeDeque;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the LockFreeDeque.
+ */
+public class LockFreeDequeTest {
+  private static final int PRODUCERS = 4;
+  private static final int CONSUMERS = 4;
+  private static final int ELEMENTS_PER_PRODUCER = 50_000;
+  private static final int STRESS_TIME_LIMIT = 60;
+
+  /**
+   * Tests the deque operations on a single thread.
+   */
+  @Test
+  public void operations() {
+    LockFreeDeque deque = new LockFreeDeque();
+    assertTrue(deque.isEmpty());
+    assertNull(deque.pollHead());
+    assertNull(deque.pollTail());
+    assertThrows(NullPointerException.class, () -> deque.append(null));
+
+    deque.append(3);
+    deque.addHead(5);
+    deque.append(9);
+    deque.addHead(1);
+    List<Object> elements = new ArrayList<>();
+    deque.forEach(elements::add);
+    assertEquals(List.of(1, 5, 3, 9), elements);
+
+    assertEquals(1, deque.pollHead());
+    assertEquals(9, deque.pollTail());
+    assertEquals(5, deque.pollHead());
+    Iterator<Object> iterator = deque.iterator();
+    assertEquals(3, deque.pollTail());
+    assertTrue(deque.isEmpty());
+    assertNull(deque.pollHead());
+
+    // The iterator was created while 3 was still in the deque
+    assertEquals(3, iterator.next());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  /**
+   * Stress test in which several producers push at both ends while several consumers poll from both ends. Every
+   * element must be taken exactly once.
+   *
+   * @throws Exception if a thread fails
+   */
+  @Test
+  public void producersAndConsumers() throws Exception {
+    LockFreeDeque deque = new LockFreeDeque();
+    ConcurrentHashMap<Object, Boolean> taken = new ConcurrentHashMap<>();
+    AtomicInteger remaining = new AtomicInteger(PRODUCERS * ELEMENTS_PER_PRODUCER);
+
+    ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int p = 0; p < PRODUCERS; p++) {
+        int producer = p;
+        workers.add(executor.submit(() -> {
+          for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+            Integer element = producer * ELEMENTS_PER_PRODUCER + i;
+            if (i % 2 == 0) {
+              deque.append(element);
+            } else {
+              deque.addHead(element);
+            }
+          }
+          return null;
+        }));
+      }
+      for (int c = 0; c < CONSUMERS; c++) {
+        boolean fromHead = c % 2 == 0;
+        workers.add(executor.submit(() -> {
+          while (remaining.get() > 0) {
+            Object element = fromHead ? deque.pollHead() : deque.pollTail();
+            if (element == null) continue;
+            assertNull(taken.put(element, true), "taken twice: " + element);
+            remaining.decrementAndGet();
+          }
+          return null;
+        }));
+      }
+      for (Future<?> worker : workers) {
+        worker.get(STRESS_TIME_LIMIT, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(PRODUCERS * ELEMENTS_PER_PRODUCER, taken.size());
+    assertTrue(deque.isEmpty());
+  }
+}
@@ -0,0 +1,181 @@
+package test;
+
+import common.InvalidIndexException;
+import common.ListNode;
+import impl.ElementCodecs;
+import impl.ListManipulator;
+import impl.MappedList;
+import impl.MappedListFile;
+import impl.MappedListManipulator;
+import interfaces.IElementCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing MappedListFile and the MappedListManipulator.
+ */
+public class MappedListFileTest {
+  private static final int LARGE_LIST_SIZE = 10_000;
+  private static final int WINDOW_ELEMENTS = 999;
+  private static final int WIDE_ELEMENT_BYTES = 10_000;
+
+  @TempDir
+  Path directory;
+
+  /**
+   * Tests writing a list to a file and using the mapped file in place.
+   *
+   * @throws IOException           not expected to be thrown during this test.
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void roundTrip() throws IOException, InvalidIndexException {
+    Path path = directory.resolve("list.bin");
+    MappedListFile file = new MappedListFile(ElementCodecs.LONG);
+    file.write(ListHandleManipulatorTest.makeList(5L, 3L, 9L, 3L).head, path);
+
+    MappedListManipulator manipulator = new MappedListManipulator();
+    MappedList list = file.load(path);
+    assertEquals(4, manipulator.size(list));
+    assertEquals(9L, manipulator.getFromFront(list, 2));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(list, 4));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(list, -1));
+    assertTrue(manipulator.contains(list, 3L));
+    assertFalse(manipulator.contains(list, 4L));
+    assertEquals(20L, manipulator.reduce(list, (a, b) -> (Long) a + (Long) b, 0L));
+    assertEquals("5,3,9,3", new ListManipulator().convertToString(manipulator.toListNodes(list)));
+
+    file.write(null, path);
+    MappedList empty = file.load(path);
+    assertTrue(manipulator.isEmpty(empty));
+    assertNull(manipulator.toListNodes(empty));
+  }
+
+  /**
+   * Tests a list larger than the write buffer with each built-in codec.
+   *
+   * @throws IOException           not expected to be thrown during this test.
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void largeLists() throws IOException, InvalidIndexException {
+    Object[] ints = new Object[LARGE_LIST_SIZE];
+    Object[] doubles = new Object[LARGE_LIST_SIZE];
+    for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+      ints[i] = i;
+      doubles[i] = i / 4.0;
+    }
+    MappedListManipulator manipulator = new MappedListManipulator();
+
+    MappedListFile intFile = new MappedListFile(ElementCodecs.INT);
+    intFile.write(ListHandleManipulatorTest.makeList(ints).head, directory.resolve("ints.bin"));
+    MappedList intList = intFile.load(directory.resolve("ints.bin"));
+    assertEquals(LARGE_LIST_SIZE, manipulator.size(intList));
+    assertEquals(LARGE_LIST_SIZE - 1, manipulator.getFromFront(intList, LARGE_LIST_SIZE - 1));
+
+    MappedListFile doubleFile = new MappedListFile(ElementCodecs.DOUBLE);
+    doubleFile.write(ListHandleManipulatorTest.makeList(doubles).head, directory.resolve("doubles.bin"));
+    MappedList doubleList = doubleFile.load(directory.resolve("doubles.bin"));
+    assertEquals(1234 / 4.0, manipulator.getFromFront(doubleList, 1234));
+    ListNode head = manipulator.toListNodes(doubleList);
+    assertEquals(LARGE_LIST_SIZE, new ListManipulator().size(head));
+  }
+
+  /**
+   * Tests a list mapped in several windows, reading the elements on either side of every window boundary.
+   *
+   * @throws IOException           not expected to be thrown during this test.
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void windowedMapping() throws IOException, InvalidIndexException {
+    Path path = directory.resolve("windows.bin");
+    MappedListFile file = new MappedListFile(ElementCodecs.INT, WINDOW_ELEMENTS);
+    file.write(ListHandleManipulatorTest.makeRange(LARGE_LIST_SIZE).head, path);
+
+    MappedListManipulator manipulator = new MappedListManipulator();
+    MappedList list = file.load(path);
+    assertEquals(LARGE_LIST_SIZE, manipulator.size(list));
+    for (int i = WINDOW_ELEMENTS - 1; i < LARGE_LIST_SIZE; i += WINDOW_ELEMENTS) {
+      assertEquals(i, manipulator.getFromFront(list, i));
+      if (i + 1 < LARGE_LIST_SIZE) assertEquals(i + 1, manipulator.getFromFront(list, i + 1));
+    }
+    assertEquals(LARGE_LIST_SIZE - 1, manipulator.getFromFront(list, LARGE_LIST_SIZE - 1));
+    assertEquals((long) LARGE_LIST_SIZE * (LARGE_LIST_SIZE - 1) / 2,
+        manipulator.reduce(list, (a, b) -> (Long) a + (Integer) b, 0L));
+
+    assertThrows(IllegalArgumentException.class, () -> new MappedListFile(ElementCodecs.INT, 0));
+    assertThrows(IllegalArgumentException.class, () -> new MappedListFile(ElementCodecs.LONG, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Tests a codec whose elements are wider than the default write buffer, which must still hold a whole element.
+   *
+   * @throws IOException           not expected to be thrown during this test.
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void wideElements() throws IOException, InvalidIndexException {
+    IElementCodec wideCodec = new IElementCodec() {
+      @Override
+      public int typeId() {
+        return 100;
+      }
+
+      @Override
+      public int width() {
+        return WIDE_ELEMENT_BYTES;
+      }
+
+      // Stores the long at both ends of the element, so that a write cut short at either end is noticed
+      @Override
+      public void encode(ByteBuffer buffer, int offset, Object element) {
+        buffer.putLong(offset, (Long) element);
+        buffer.putLong(offset + WIDE_ELEMENT_BYTES - Long.BYTES, (Long) element);
+      }
+
+      @Override
+      public Object decode(ByteBuffer buffer, int offset) {
+        long element = buffer.getLong(offset);
+        return element == buffer.getLong(offset + WIDE_ELEMENT_BYTES - Long.BYTES) ? element : null;
+      }
+    };
+    Path path = directory.resolve("wide.bin");
+    MappedListFile file = new MappedListFile(wideCodec);
+    file.write(ListHandleManipulatorTest.makeList(7L, 8L, 9L).head, path);
+
+    MappedListManipulator manipulator = new MappedListManipulator();
+    MappedList list = file.load(path);
+    assertEquals(3, manipulator.size(list));
+    assertEquals(7L, manipulator.getFromFront(list, 0));
+    assertEquals(9L, manipulator.getFromFront(list, 2));
+    assertEquals(3L * WIDE_ELEMENT_BYTES, Files.size(path) - 5 * Integer.BYTES);
+  }
+
+  /**
+   * Tests that files which are corrupt or were written with another codec are rejected.
+   *
+   * @throws IOException not expected to be thrown during this test.
+   */
+  @Test
+  public void invalidFiles() throws IOException {
+    Path path = directory.resolve("list.bin");
+    new MappedListFile(ElementCodecs.LONG).write(ListHandleManipulatorTest.makeList(1L, 2L).head, path);
+    assertThrows(IOException.class, () -> new MappedListFile(ElementCodecs.DOUBLE).load(path));
+
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+    assertThrows(IOException.class, () -> new MappedListFile(ElementCodecs.LONG).load(path));
+
+    Files.write(path, new byte[] {1, 2, 3});
+    assertThrows(IOException.class, () -> new MappedListFile(ElementCodecs.LONG).load(path));
+  }
+}
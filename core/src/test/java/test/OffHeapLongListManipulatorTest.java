@@ -0,0 +1,77 @@
+package test;
+
+import common.InvalidIndexException;
+import common.OffHeapArena;
+import impl.OffHeapLongListManipulator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the OffHeapLongListManipulator and the lifecycle of its OffHeapArena.
+ */
+public class OffHeapLongListManipulatorTest {
+
+  /**
+   * Builds a list of long values in the given manipulator's arena.
+   *
+   * @param manipulator the manipulator whose arena holds the list
+   * @param elements    the elements of the list
+   * @return the head of the list
+   */
+  private static int makeList(OffHeapLongListManipulator manipulator, long... elements) {
+    int head = OffHeapArena.NIL;
+    for (int i = elements.length - 1; i >= 0; i--) {
+      head = manipulator.addHead(head, manipulator.newNode(elements[i]));
+    }
+    return head;
+  }
+
+  /**
+   * Tests the list operations, with an arena small enough that it has to grow.
+   *
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void operations() throws InvalidIndexException {
+    try (OffHeapArena arena = new OffHeapArena(2)) {
+      OffHeapLongListManipulator manipulator = new OffHeapLongListManipulator(arena);
+      int head = makeList(manipulator, 5, 3, 9, 3);
+
+      assertEquals(4, manipulator.size(head));
+      assertEquals(0, manipulator.size(OffHeapArena.NIL));
+      assertTrue(manipulator.contains(head, 9));
+      assertFalse(manipulator.contains(head, 4));
+      assertEquals(2, manipulator.count(head, 3));
+      assertEquals("5,3,9,3", manipulator.convertToString(head));
+      assertEquals(9, manipulator.getFromFront(head, 2));
+      assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(head, 4));
+      assertEquals(20, manipulator.reduce(head, Long::sum, 0));
+
+      int list = manipulator.append(head, makeList(manipulator, Long.MAX_VALUE, -1));
+      list = manipulator.reverse(list);
+      assertEquals("-1," + Long.MAX_VALUE + ",3,9,3,5", manipulator.convertToString(list));
+      manipulator.map(list, element -> element / 2);
+      assertEquals("0," + Long.MAX_VALUE / 2 + ",1,4,1,2", manipulator.convertToString(list));
+      assertEquals(6, arena.used());
+    }
+  }
+
+  /**
+   * Tests that an arena cannot be used once it has been closed.
+   */
+  @Test
+  public void closedArena() {
+    OffHeapArena arena = new OffHeapArena(16);
+    OffHeapLongListManipulator manipulator = new OffHeapLongListManipulator(arena);
+    int head = makeList(manipulator, 1, 2, 3);
+    assertFalse(arena.isClosed());
+
+    arena.close();
+    arena.close();
+    assertTrue(arena.isClosed());
+    assertEquals(0, arena.used());
+    assertThrows(IllegalStateException.class, () -> manipulator.size(head));
+    assertThrows(IllegalStateException.class, () -> manipulator.newNode(4));
+  }
+}
@@ -0,0 +1,100 @@
+package test;
+
+import common.ListNode;
+import common.ListSegment;
+import impl.ListManipulator;
+import impl.ListSegmenter;
+import impl.ParallelMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the ParallelMapper and balanced segmenting.
+ */
+public class ParallelMapperTest {
+  private static final int LIST_SIZE = 100_003;
+
+  /**
+   * Tests that balanced segments cover the whole list in order with the expected starts and lengths.
+   */
+  @Test
+  public void balancedSegments() {
+    ListSegmenter segmenter = new ListSegmenter();
+    List<ListSegment> segments = segmenter.balancedSegments(ListHandleManipulatorTest.makeRange(10).head, 4);
+    assertEquals(4, segments.size());
+    int[] expectedStarts = {0, 3, 6, 8};
+    int[] expectedLengths = {3, 3, 2, 2};
+    for (int i = 0; i < 4; i++) {
+      assertEquals(expectedStarts[i], segments.get(i).start.element);
+      assertEquals(expectedLengths[i], segments.get(i).length);
+    }
+    assertEquals(3, segmenter.balancedSegments(ListHandleManipulatorTest.makeRange(3).head, 8).size());
+    assertTrue(segmenter.balancedSegments(null, 4).isEmpty());
+  }
+
+  /**
+   * Tests that segment lengths differ by at most one, including for lists long enough that only some of the nodes
+   * are kept as waypoints during the walk.
+   */
+  @Test
+  public void balancedSegmentsDifferByAtMostOne() {
+    assertBalanced(129, 2);
+    assertBalanced(100_767, 6);
+    assertBalanced(LIST_SIZE, 4);
+    for (int size = 1; size <= 300; size++) {
+      assertBalanced(size, 3);
+      assertBalanced(size, 7);
+    }
+  }
+
+  // Checks that the segments of a list of the given size cover it in order, with lengths differing by at most one
+  private static void assertBalanced(int size, int count) {
+    List<ListSegment> segments = new ListSegmenter().balancedSegments(ListHandleManipulatorTest.makeRange(size).head,
+        count);
+    assertEquals(Math.min(size, count), segments.size());
+    int next = 0;
+    int shortest = size;
+    int longest = 0;
+    for (ListSegment segment : segments) {
+      assertEquals(next, segment.start.element);
+      next += segment.length;
+      shortest = Math.min(shortest, segment.length);
+      longest = Math.max(longest, segment.length);
+    }
+    assertEquals(size, next);
+    assertTrue(longest - shortest <= 1, size + " nodes in " + count + " segments");
+  }
+
+  /**
+   * Tests that a parallel map transforms every element in place and keeps the order of the list.
+   */
+  @Test
+  public void map() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      ParallelMapper mapper = new ParallelMapper(executor, 4, 1000);
+      ListNode head = ListHandleManipulatorTest.makeRange(LIST_SIZE).head;
+      ListNode tail = head.previous;
+      assertSame(head, mapper.map(head, element -> (Integer) element * 2));
+
+      ListManipulator manipulator = new ListManipulator();
+      assertEquals(LIST_SIZE, manipulator.size(head));
+      assertSame(tail, head.previous);
+      ListNode currentNode = head;
+      for (int i = 0; i < LIST_SIZE; i++) {
+        assertEquals(i * 2, currentNode.element);
+        currentNode = currentNode.next;
+      }
+
+      assertNull(mapper.map(null, element -> element));
+      assertThrows(ArithmeticException.class, () -> mapper.map(head, element -> 1 / ((Integer) element - 5000)));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
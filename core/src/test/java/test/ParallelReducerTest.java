@@ -0,0 +1,62 @@
+package test;
+
+import common.ListNode;
+import common.ListSegment;
+import impl.ListManipulator;
+import impl.ListSegmenter;
+import impl.ParallelReducer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the ListSegmenter and the ParallelReducer.
+ */
+public class ParallelReducerTest {
+  private static final int LIST_SIZE = 100_000;
+
+  /**
+   * Tests that segments cover the whole list in order.
+   */
+  @Test
+  public void segments() {
+    ListSegmenter segmenter = new ListSegmenter();
+    List<ListSegment> segments = segmenter.segments(ListHandleManipulatorTest.makeRange(10).head, 4);
+    assertEquals(3, segments.size());
+    assertEquals(0, segments.get(0).start.element);
+    assertEquals(4, segments.get(1).start.element);
+    assertEquals(8, segments.get(2).start.element);
+    assertEquals(4, segments.get(1).length);
+    assertEquals(2, segments.get(2).length);
+
+    assertEquals(1, segmenter.segments(ListHandleManipulatorTest.makeRange(4).head, 4).size());
+    assertTrue(segmenter.segments(null, 4).isEmpty());
+    ListNode four = ListHandleManipulatorTest.makeRange(4).head;
+    assertThrows(IllegalArgumentException.class, () -> segmenter.segments(four, 0));
+  }
+
+  /**
+   * Tests that a parallel reduce gives the same result as a sequential one, including for an operator that is
+   * associative but not commutative.
+   */
+  @Test
+  public void reduce() {
+    ListNode head = ListHandleManipulatorTest.makeRange(LIST_SIZE).head;
+    ParallelReducer reducer = new ParallelReducer(new ForkJoinPool(4), 1000);
+
+    long expectedSum = (long) LIST_SIZE * (LIST_SIZE - 1) / 2;
+    assertEquals(expectedSum, reducer.reduce(head, (a, b) -> ((Number) a).longValue() + ((Number) b).longValue(), 0L));
+    assertEquals(LIST_SIZE - 1, reducer.reduce(head, (a, b) -> Math.max((Integer) a, (Integer) b), Integer.MIN_VALUE));
+
+    ListManipulator manipulator = new ListManipulator();
+    ListNode small = ListHandleManipulatorTest.makeRange(2500).head;
+    String expected = (String) manipulator.reduce(small, (a, b) -> "" + a + b, "");
+    assertEquals(expected, reducer.reduce(small, (a, b) -> "" + a + b, ""));
+
+    assertEquals("id", reducer.reduce(null, (a, b) -> a, "id"));
+    assertEquals(expectedSum, manipulator.parallelReduce(head, (a, b) -> ((Number) a).longValue() + ((Number) b).longValue(), 0L));
+  }
+}
@@ -0,0 +1,160 @@
+package test;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.PersistentList;
+import impl.PersistentListManipulator;
+import impl.SnapshotList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the PersistentListManipulator and SnapshotList.
+ */
+public class PersistentListManipulatorTest {
+  private static final int THREADS = 8;
+  private static final int OPERATIONS = 2_000;
+  private static final int STRESS_TIME_LIMIT = 60;
+
+  private final PersistentListManipulator manipulator = new PersistentListManipulator();
+
+  /**
+   * Builds a persistent list holding the given elements in order.
+   *
+   * @param elements the elements of the list
+   * @return the list, or null if there are no elements
+   */
+  private static PersistentList makeList(Object... elements) {
+    PersistentList list = null;
+    for (int i = elements.length - 1; i >= 0; i--) {
+      list = new PersistentList(elements[i], list);
+    }
+    return list;
+  }
+
+  /**
+   * Tests the read-only operations, including on the empty list.
+   */
+  @Test
+  public void readOperations() throws InvalidIndexException {
+    PersistentList list = makeList(1, 2, 3, 2);
+
+    assertEquals(4, manipulator.size(list));
+    assertEquals(0, manipulator.size(null));
+    assertTrue(manipulator.isEmpty(null));
+    assertTrue(manipulator.contains(list, 3));
+    assertFalse(manipulator.contains(list, 5));
+    assertEquals(2, manipulator.count(list, 2));
+    assertEquals("1,2,3,2", manipulator.convertToString(list));
+    assertEquals("", manipulator.convertToString(null));
+    assertEquals(1, manipulator.getFromFront(list, 0));
+    assertEquals(3, manipulator.getFromBack(list, 1));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(list, 4));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(null, 0));
+    assertTrue(manipulator.containsDuplicates(list));
+    assertFalse(manipulator.containsDuplicates(makeList(1, 2, 3)));
+    assertTrue(manipulator.equals(list, makeList(1, 2, 3, 2)));
+    assertFalse(manipulator.equals(list, makeList(1, 2, 3)));
+    assertTrue(manipulator.equals(null, null));
+    assertEquals(8, manipulator.reduce(list, (a, b) -> (Integer) a + (Integer) b, 0));
+  }
+
+  /**
+   * Tests that changing operations return new lists, leave the original list unchanged and share its unchanged
+   * end.
+   */
+  @Test
+  public void changesShareStructure() throws InvalidIndexException, InvalidListException {
+    PersistentList list = makeList(1, 2, 3, 4);
+
+    PersistentList added = manipulator.addHead(list, 0);
+    assertSame(list, added.next);
+
+    PersistentList inserted = manipulator.insert(list, 9, 2);
+    assertEquals("1,2,9,3,4", manipulator.convertToString(inserted));
+    assertSame(list.next.next, inserted.next.next.next);
+    assertThrows(InvalidIndexException.class, () -> manipulator.insert(list, 9, 5));
+
+    PersistentList deleted = manipulator.delete(list, 2);
+    assertEquals("1,3,4", manipulator.convertToString(deleted));
+    assertSame(list.next.next, deleted.next);
+    assertSame(list, manipulator.delete(list, 7));
+
+    PersistentList other = makeList(5, 6);
+    PersistentList appended = manipulator.append(list, other);
+    assertEquals("1,2,3,4,5,6", manipulator.convertToString(appended));
+    assertSame(other, manipulator.append(null, other));
+
+    PersistentList[] parts = manipulator.split(list, 3);
+    assertEquals("1,2", manipulator.convertToString(parts[0]));
+    assertSame(list.next.next, parts[1]);
+    assertThrows(InvalidListException.class, () -> manipulator.split(list, 1));
+    assertThrows(InvalidListException.class, () -> manipulator.split(list, 7));
+
+    assertEquals("4,3,2,1", manipulator.convertToString(manipulator.reverse(list)));
+    assertEquals("2,4,6,8", manipulator.convertToString(manipulator.map(list, e -> (Integer) e * 2)));
+
+    PersistentList odd = manipulator.filter(list, e -> (Integer) e % 2 == 1);
+    assertEquals("1,3", manipulator.convertToString(odd));
+    PersistentList small = manipulator.filter(list, e -> (Integer) e != 2);
+    assertEquals("1,3,4", manipulator.convertToString(small));
+    assertSame(list.next.next, small.next);
+    assertSame(list, manipulator.filter(list, e -> true));
+    assertNull(manipulator.filter(list, e -> false));
+
+    assertEquals("1,2,3,4", manipulator.convertToString(list));
+    assertEquals(4, list.size);
+  }
+
+  /**
+   * Tests that concurrent writers each publish their change exactly once while readers always see a complete
+   * version.
+   */
+  @Test
+  public void concurrentSnapshots() throws Exception {
+    SnapshotList shared = new SnapshotList();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+    AtomicBoolean writing = new AtomicBoolean(true);
+    try {
+      Future<Boolean> reader = executor.submit(() -> {
+        boolean consistent = true;
+        while (writing.get()) {
+          PersistentList snapshot = shared.snapshot();
+          int counted = 0;
+          for (PersistentList node = snapshot; node != null; node = node.next) counted++;
+          consistent &= counted == manipulator.size(snapshot);
+        }
+        return consistent;
+      });
+
+      List<Future<?>> writers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int thread = t;
+        writers.add(executor.submit(() -> {
+          for (int i = 0; i < OPERATIONS; i++) {
+            Object element = thread * OPERATIONS + i;
+            shared.update(list -> manipulator.addHead(list, element));
+          }
+        }));
+      }
+      for (Future<?> writer : writers) writer.get(STRESS_TIME_LIMIT, TimeUnit.SECONDS);
+      writing.set(false);
+
+      assertTrue(reader.get(STRESS_TIME_LIMIT, TimeUnit.SECONDS));
+      PersistentList result = shared.snapshot();
+      assertEquals(THREADS * OPERATIONS, manipulator.size(result));
+      assertFalse(manipulator.containsDuplicates(result));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package test;
+
+import common.DoubleListNode;
+import common.IntListNode;
+import common.InvalidIndexException;
+import common.LongListNode;
+import impl.DoubleListManipulator;
+import impl.IntListManipulator;
+import impl.LongListManipulator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the primitive-specialized list manipulators.
+ */
+public class PrimitiveListManipulatorTest {
+
+  /**
+   * Builds a list of int values.
+   *
+   * @param elements the elements of the list
+   * @return the head of the list
+   */
+  private static IntListNode makeIntList(int... elements) {
+    IntListManipulator manipulator = new IntListManipulator();
+    IntListNode head = null;
+    for (int i = elements.length - 1; i >= 0; i--) {
+      head = manipulator.addHead(head, new IntListNode(elements[i]));
+    }
+    return head;
+  }
+
+  /**
+   * Tests the operations of the int manipulator.
+   *
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void intList() throws InvalidIndexException {
+    IntListManipulator manipulator = new IntListManipulator();
+    IntListNode head = makeIntList(5, 3, 9, 3);
+
+    assertEquals(4, manipulator.size(head));
+    assertEquals(0, manipulator.size(null));
+    assertTrue(manipulator.contains(head, 9));
+    assertFalse(manipulator.contains(head, 4));
+    assertEquals(2, manipulator.count(head, 3));
+    assertEquals("5,3,9,3", manipulator.convertToString(head));
+    assertEquals(9, manipulator.getFromFront(head, 2));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(head, 4));
+
+    assertEquals(20, manipulator.reduce(head, Integer::sum, 0));
+    assertEquals(3, manipulator.reduce(head, Math::min, Integer.MAX_VALUE));
+    assertEquals(9, manipulator.reduce(head, Math::max, Integer.MIN_VALUE));
+
+    manipulator.map(head, element -> element * 2);
+    assertEquals("10,6,18,6", manipulator.convertToString(head));
+
+    IntListNode filtered = manipulator.filter(head, element -> element > 6);
+    assertEquals("10,18", manipulator.convertToString(filtered));
+    assertNull(manipulator.filter(filtered, element -> false));
+
+    IntListNode appended = manipulator.append(makeIntList(1, 2), makeIntList(3));
+    assertEquals("1,2,3", manipulator.convertToString(appended));
+  }
+
+  /**
+   * Tests the operations of the long and double manipulators.
+   *
+   * @throws InvalidIndexException not expected to be thrown during this test.
+   */
+  @Test
+  public void longAndDoubleLists() throws InvalidIndexException {
+    LongListManipulator longManipulator = new LongListManipulator();
+    LongListNode longHead = longManipulator.addHead(longManipulator.addHead(null, new LongListNode(4_000_000_000L)), new LongListNode(1));
+    assertEquals(4_000_000_001L, longManipulator.reduce(longHead, Long::sum, 0));
+    assertEquals(4_000_000_000L, longManipulator.getFromFront(longHead, 1));
+    assertEquals(1, longManipulator.count(longHead, 1));
+
+    DoubleListManipulator doubleManipulator = new DoubleListManipulator();
+    DoubleListNode doubleHead = doubleManipulator.addHead(doubleManipulator.addHead(null, new DoubleListNode(Double.NaN)), new DoubleListNode(0.5));
+    assertTrue(doubleManipulator.contains(doubleHead, Double.NaN));
+    assertFalse(doubleManipulator.contains(doubleHead, -0.5));
+    doubleManipulator.map(doubleHead, element -> -element);
+    assertEquals(-0.5, doubleManipulator.getFromFront(doubleHead, 0));
+    assertEquals("-0.5,NaN", doubleManipulator.convertToString(doubleHead));
+  }
+}
@@ -0,0 +1,140 @@
+package test;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListNode;
+import impl.RecursiveListManipulator;
+import interfaces.IListManipulator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concrete JUnit test class (subclass of ListManipulatorTest) for testing the RecursiveListManipulator implementation.
+ */
+public class RecursiveListManipulatorTest extends AbstractListManipulatorTest {
+  private static final int DEEP_LIST_SIZE = 1_000_000;
+  private static final int INDEXED_LIST_SIZE = 200_000;
+  private static final int INDEXED_TIME_LIMIT = 1_000;
+  private static final int STRESS_LIST_SIZE = 10_000;
+  private static final int STRESS_ITERATIONS = 200;
+  private static final int STRESS_TIME_LIMIT = 60;
+
+  @Override
+  public IListManipulator makeListManipulator() {
+    return new RecursiveListManipulator();
+  }
+
+  /**
+   * Tests that the recursive methods run in constant stack depth on a list of DEEP_LIST_SIZE nodes, far longer than
+   * the default thread stack could recurse through with one frame per node.
+   */
+  @Test
+  public void deepList() throws InvalidIndexException {
+    IListManipulator manipulator = makeListManipulator();
+    ListNode head = ListHandleManipulatorTest.makeRange(DEEP_LIST_SIZE).head;
+
+    assertEquals(DEEP_LIST_SIZE, manipulator.size(head));
+    assertTrue(manipulator.contains(head, DEEP_LIST_SIZE - 1));
+    assertEquals(1, manipulator.count(head, DEEP_LIST_SIZE / 2));
+    assertTrue(manipulator.convertToString(head).endsWith("," + (DEEP_LIST_SIZE - 1)));
+    assertTrue(manipulator.equals(head, ListHandleManipulatorTest.makeRange(DEEP_LIST_SIZE).head));
+    assertEquals(DEEP_LIST_SIZE - 2, manipulator.getFromFront(head, DEEP_LIST_SIZE - 2));
+
+    head = manipulator.delete(head, DEEP_LIST_SIZE - 1);
+    head = manipulator.reverse(head);
+    assertEquals(DEEP_LIST_SIZE - 2, manipulator.getFromFront(head, 0));
+    assertEquals(0, manipulator.getFromBack(head, 0));
+  }
+
+  /**
+   * Tests that split, map, reduce and filter run in constant stack depth on a list of DEEP_LIST_SIZE nodes.
+   *
+   * @throws InvalidListException not expected to be thrown during this test.
+   */
+  @Test
+  public void deepListBulkOperations() throws InvalidListException {
+    IListManipulator manipulator = makeListManipulator();
+    ListNode head = ListHandleManipulatorTest.makeRange(DEEP_LIST_SIZE).head;
+
+    head = manipulator.map(head, element -> (Integer) element + 1);
+    long sum = (Long) manipulator.reduce(head, (a, b) -> (Long) a + (Integer) b, 0L);
+    assertEquals((long) DEEP_LIST_SIZE * (DEEP_LIST_SIZE + 1) / 2, sum);
+
+    head = manipulator.filter(head, element -> (Integer) element % 2 == 0);
+    assertEquals(DEEP_LIST_SIZE / 2, manipulator.size(head));
+    assertEquals(2, head.element);
+
+    ListNode parts = manipulator.split(head, new ListNode(DEEP_LIST_SIZE / 2));
+    assertEquals(DEEP_LIST_SIZE / 4 - 1, manipulator.size((ListNode) parts.element));
+    assertEquals(DEEP_LIST_SIZE / 4 + 1, manipulator.size((ListNode) parts.next.element));
+  }
+
+  /**
+   * Tests that indexed access and insertion on a long list make a single walk rather than recounting the list first.
+   */
+  @Test
+  public void indexedAccessIsLinear() {
+    IListManipulator manipulator = makeListManipulator();
+    ListNode head = ListHandleManipulatorTest.makeRange(INDEXED_LIST_SIZE).head;
+
+    assertTimeoutPreemptively(Duration.ofMillis(INDEXED_TIME_LIMIT), () -> {
+      assertEquals(INDEXED_LIST_SIZE - 1, manipulator.getFromFront(head, INDEXED_LIST_SIZE - 1));
+      assertEquals(0, manipulator.getFromBack(head, INDEXED_LIST_SIZE - 1));
+      assertEquals(INDEXED_LIST_SIZE - 3, manipulator.getFromBack(head, 2));
+    });
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(head, INDEXED_LIST_SIZE));
+    assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(head, INDEXED_LIST_SIZE));
+    assertThrows(InvalidIndexException.class, () -> manipulator.insert(head, new ListNode(-1), INDEXED_LIST_SIZE + 1));
+
+    assertTimeoutPreemptively(Duration.ofMillis(INDEXED_TIME_LIMIT), () -> {
+      assertSame(head, manipulator.insert(head, new ListNode(-1), INDEXED_LIST_SIZE));
+      assertEquals(-1, manipulator.getFromBack(head, 0));
+    });
+  }
+
+  /**
+   * Stress test in which many threads run the read-only methods on the same list at once. The methods must not write
+   * to the list, so every thread must see the list unchanged.
+   *
+   * @throws Exception if a reader thread fails
+   */
+  @Test
+  public void concurrentReaders() throws Exception {
+    IListManipulator manipulator = makeListManipulator();
+    ListNode head = ListHandleManipulatorTest.makeRange(STRESS_LIST_SIZE).head;
+    ListNode copy = ListHandleManipulatorTest.makeRange(STRESS_LIST_SIZE).head;
+    String expectedString = manipulator.convertToString(head);
+    int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> readers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        readers.add(executor.submit(() -> {
+          for (int i = 0; i < STRESS_ITERATIONS; i++) {
+            assertEquals(STRESS_LIST_SIZE, manipulator.size(head));
+            assertTrue(manipulator.contains(head, STRESS_LIST_SIZE - 1));
+            assertEquals(1, manipulator.count(head, i % STRESS_LIST_SIZE));
+            assertEquals(expectedString, manipulator.convertToString(head));
+            assertTrue(manipulator.equals(head, copy));
+          }
+          return null;
+        }));
+      }
+      for (Future<?> reader : readers) {
+        reader.get(STRESS_TIME_LIMIT, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package test;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListHandle;
+import impl.VersionedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test class for testing the VersionedList.
+ */
+public class VersionedListTest {
+  private static final int SIZE = 100;
+  private static final int WRITERS = 4;
+  private static final int READERS = 4;
+  private static final int OPERATIONS = 2_000;
+  private static final int STRESS_TIME_LIMIT = 60;
+
+  /**
+   * Returns a list holding the integers from 0 to SIZE - 1.
+   *
+   * @return the list
+   */
+  private static VersionedList makeList() {
+    return new VersionedList(ListHandleManipulatorTest.makeRange(SIZE));
+  }
+
+  /**
+   * Tests reads and writes from a single thread.
+   */
+  @Test
+  public void singleThreadedOperations() throws InvalidIndexException, InvalidListException {
+    VersionedList list = makeList();
+    assertEquals(SIZE, list.size());
+    assertTrue(list.contains(SIZE - 1));
+    assertFalse(list.contains(SIZE));
+    assertEquals(1, list.count(5));
+    assertEquals(3, list.getFromFront(3));
+    assertThrows(InvalidIndexException.class, () -> list.getFromFront(SIZE));
+
+    list.insert(SIZE, 2);
+    assertEquals(SIZE, list.getFromFront(2));
+    list.delete(SIZE);
+    assertEquals(2, list.getFromFront(2));
+
+    list.reverse();
+    assertEquals(SIZE - 1, list.getFromFront(0));
+    list.reverse();
+
+    VersionedList second = list.split(SIZE / 2);
+    assertEquals(SIZE / 2, list.size());
+    assertEquals(SIZE / 2, second.getFromFront(0));
+    assertThrows(InvalidIndexException.class, () -> list.split(SIZE));
+
+    ListHandle other = ListHandleManipulatorTest.makeList(-1);
+    list.append(other);
+    assertEquals(-1, list.getFromFront(SIZE / 2));
+    assertEquals(0, other.size);
+    assertTrue(new VersionedList().isEmpty());
+  }
+
+  /**
+   * Tests that readers running alongside writers always see the elements no writer touches, and that the list is
+   * back to its original size once every writer has removed what it added.
+   */
+  @Test
+  public void optimisticReadsDuringWrites() throws Exception {
+    VersionedList list = makeList();
+    ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+    AtomicBoolean writing = new AtomicBoolean(true);
+    try {
+      List<Future<Boolean>> readers = new ArrayList<>();
+      for (int r = 0; r < READERS; r++) {
+        readers.add(executor.submit(() -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          boolean consistent = true;
+          while (writing.get()) {
+            int element = random.nextInt(SIZE);
+            consistent &= list.contains(element);
+            consistent &= list.count(element) == 1;
+            int size = list.size();
+            consistent &= size >= SIZE && size <= SIZE + WRITERS;
+          }
+          return consistent;
+        }));
+      }
+
+      List<Future<?>> writers = new ArrayList<>();
+      for (int w = 0; w < WRITERS; w++) {
+        String prefix = "writer-" + w + "-";
+        writers.add(executor.submit(() -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          for (int i = 0; i < OPERATIONS; i++) {
+            list.insert(prefix + i, random.nextInt(SIZE));
+            list.delete(prefix + i);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> writer : writers) writer.get(STRESS_TIME_LIMIT, TimeUnit.SECONDS);
+      writing.set(false);
+
+      for (Future<Boolean> reader : readers) assertTrue(reader.get(STRESS_TIME_LIMIT, TimeUnit.SECONDS));
+      assertEquals(SIZE, list.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package test;
+
+import common.InvalidIndexException;
+import common.InvalidListException;
+import common.ListNode;
+import interfaces.IListManipulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abstract test class for testing IListManipulator implementations on lists of a million nodes, with time limits
+ * sized for lists of that length.
+ */
+public abstract class AbstractScaleListManipulatorTest {
+
+  private static final int LIST_SIZE = 1_000_000;
+  private static final int TIME_LIMIT = 10_000;
+
+  private IListManipulator manipulator;
+
+  private ListNode list;
+  private ListNode copy;
+
+  /**
+   * The factory method that must be implemented by any concrete subclass of AbstractScaleListManipulatorTest in order to instantiate a particular implementation of IListManipulator.
+   *
+   * @return the desired concrete implementation of IListManipulator
+   */
+  public abstract IListManipulator makeListManipulator();
+
+  /**
+   * Builds a list of the integers from 0 to size - 1.
+   *
+   * @param size the number of nodes in the list
+   * @return the head of the list
+   */
+  private static ListNode makeList(int size) {
+    ListNode head = new ListNode(0);
+    head.next = head;
+    head.previous = head;
+    for (int i = 1; i < size; i++) {
+      ListNode node = new ListNode(i);
+      node.previous = head.previous;
+      node.next = head;
+      head.previous.next = node;
+      head.previous = node;
+    }
+    return head;
+  }
+
+  /**
+   * Method used to set up common test objects prior to every test.
+   */
+  @BeforeEach
+  public void setup() {
+    manipulator = makeListManipulator();
+    list = makeList(LIST_SIZE);
+    copy = makeList(LIST_SIZE);
+  }
+
+  /**
+   * Tests the read-only methods in the IListManipulator implementation.
+   */
+  @Test
+  public void queries() {
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> {
+      assertEquals(LIST_SIZE, manipulator.size(list));
+      assertFalse(manipulator.isEmpty(list));
+      assertTrue(manipulator.contains(list, LIST_SIZE - 1));
+      assertFalse(manipulator.contains(list, LIST_SIZE));
+      assertEquals(1, manipulator.count(list, LIST_SIZE / 2));
+      assertTrue(manipulator.convertToString(list).endsWith("," + (LIST_SIZE - 1)));
+      assertTrue(manipulator.equals(list, copy));
+      assertFalse(manipulator.containsDuplicates(list));
+    });
+  }
+
+  /**
+   * Tests the indexed access methods in the IListManipulator implementation.
+   */
+  @Test
+  public void indexedAccess() {
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> {
+      assertEquals(LIST_SIZE - 2, manipulator.getFromFront(list, LIST_SIZE - 2));
+      assertEquals(1, manipulator.getFromBack(list, LIST_SIZE - 2));
+      assertThrows(InvalidIndexException.class, () -> manipulator.getFromFront(list, LIST_SIZE));
+      assertThrows(InvalidIndexException.class, () -> manipulator.getFromBack(list, LIST_SIZE));
+    });
+  }
+
+  /**
+   * Tests the structural modification methods in the IListManipulator implementation.
+   */
+  @Test
+  public void modifications() {
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> {
+      ListNode head = manipulator.insert(list, new ListNode(-1), LIST_SIZE / 2);
+      assertEquals(-1, manipulator.getFromFront(head, LIST_SIZE / 2));
+      head = manipulator.delete(head, -1);
+      assertTrue(manipulator.equals(head, copy));
+
+      head = manipulator.reverse(head);
+      assertEquals(LIST_SIZE - 1, head.element);
+      head = manipulator.reverse(head);
+      head = manipulator.append(head, manipulator.addHead(makeList(1), new ListNode(-2)));
+      assertEquals(LIST_SIZE + 2, manipulator.size(head));
+    });
+  }
+
+  /**
+   * Tests the split method in the IListManipulator implementation.
+   */
+  @Test
+  public void split() {
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> {
+      ListNode parts = manipulator.split(list, new ListNode(LIST_SIZE / 2));
+      assertEquals(LIST_SIZE / 2, manipulator.size((ListNode) parts.element));
+      assertEquals(LIST_SIZE - LIST_SIZE / 2, manipulator.size((ListNode) parts.next.element));
+      assertThrows(InvalidListException.class, () -> manipulator.split(copy, copy));
+    });
+  }
+
+  /**
+   * Tests the map, reduce and filter methods in the IListManipulator implementation.
+   */
+  @Test
+  public void mapReduceFilter() {
+    assertTimeoutPreemptively(Duration.ofMillis(TIME_LIMIT), () -> {
+      ListNode head = manipulator.map(list, element -> (Integer) element + 1);
+      long sum = (Long) manipulator.reduce(head, (a, b) -> (Long) a + (Integer) b, 0L);
+      assertEquals((long) LIST_SIZE * (LIST_SIZE + 1) / 2, sum);
+
+      head = manipulator.filter(head, element -> (Integer) element % 10 == 0);
+      assertEquals(LIST_SIZE / 10, manipulator.size(head));
+    });
+  }
+}
@@ -0,0 +1,15 @@
+package test;
+
+import impl.ListManipulator;
+import interfaces.IListManipulator;
+
+/**
+ * Concrete JUnit test class (subclass of AbstractScaleListManipulatorTest) for testing the ListManipulator implementation on large lists.
+ */
+public class ListManipulatorScaleTest extends AbstractScaleListManipulatorTest {
+
+  @Override
+  public IListManipulator makeListManipulator() {
+    return new ListManipulator();
+  }
+}
@@ -0,0 +1,15 @@
+package test;
+
+import impl.RecursiveListManipulator;
+import interfaces.IListManipulator;
+
+/**
+ * Concrete JUnit test class (subclass of AbstractScaleListManipulatorTest) for testing the RecursiveListManipulator implementation on large lists.
+ */
+public class RecursiveListManipulatorScaleTest extends AbstractScaleListManipulatorTest {
+
+  @Override
+  public IListManipulator makeListManipulator() {
+    return new RecursiveListManipulator();
+  }
+}
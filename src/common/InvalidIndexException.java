@@ -1,10 +0,0 @@
-package common;
-
-
-/**
- * Exception class indicating that an invalid index has been specified.
- *
- */
-public class InvalidIndexException extends Exception {
-
-}